@@ -2,26 +2,21 @@ package com.acme.greeter.utils;
 
 import com.acme.greeter.utils.exceptions.ConversionFailedException;
 import com.acme.greeter.utils.exceptions.ObjectFormatterException;
+import com.acme.greeter.utils.mapping.FieldMapper;
+import com.acme.greeter.utils.mapping.GeneratedMapper;
+import com.acme.greeter.utils.mapping.MapperGenerator;
+import com.acme.greeter.utils.mapping.MappingPlan;
 import com.acme.greeter.utils.parameter.UtillityClass;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
-import org.apache.commons.collections4.CollectionUtils;
-import org.apache.commons.collections4.IterableUtils;
-import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apiguardian.api.API;
 import org.apiguardian.api.API.Status;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
-import java.lang.reflect.Field;
-import java.util.Arrays;
-import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * Utility to support test case creation regarding mapper class. An individual
@@ -32,6 +27,43 @@ import java.util.stream.Collectors;
 @NoArgsConstructor(access = AccessLevel.NONE)
 public class MapperUtils extends UtillityClass {
 
+    /**
+     * Whether objects, which can not be mapped directly, are mapped by a json
+     * round-trip instead
+     */
+    private static volatile boolean jsonFallback = false;
+
+    /**
+     * Count of mappings of a pair of classes, after which a mapper is generated for
+     * this pair, a negative count disables the generation
+     */
+    private static volatile int generationThreshold = -1;
+
+    /**
+     * Enables the json round-trip of {@link Gson} for all mappings into classes,
+     * whose fields can not be written directly, like records. It is disabled by
+     * default, since every mapping creates a complete json string.
+     *
+     * @param aEnabled -> <code>true</code> to map such objects by json
+     */
+    public static void setJsonFallback(boolean aEnabled) {
+        jsonFallback = aEnabled;
+    }
+
+    /**
+     * Enables the {@link MapperGenerator generation} of mappers for pairs of classes,
+     * which are mapped very often. The generated mapper calls the trivial accessors
+     * of both classes directly instead of the cached method handles. Pairs, for which
+     * no mapper can be generated, are mapped by the {@link FieldMapper} as before.
+     *
+     * @param aThreshold -> Count of mappings of a pair, after which its mapper is
+     *                   generated, <code>0</code> for the first mapping and a
+     *                   negative count to disable the generation, which is the default
+     */
+    public static void setGenerationThreshold(int aThreshold) {
+        generationThreshold = aThreshold;
+    }
+
     /**
      * Auxiliary method used to translate class contents within the passed object to
      * the class specified as the second parameter. Here it is possible to mention
@@ -39,9 +71,14 @@ public class MapperUtils extends UtillityClass {
      * the object. In this case a {@link ObjectUtils#deepCopyObject(Object) deep
      * copy} of the object is created and returned. <br>
      * <br>
-     * Final fields, which are filled within the constructors and can therefore no
-     * longer be changed within the class itself, are displayed as empty fields in
-     * the newly instantiated object.
+     * Fields with the same name are copied directly, primitive values are boxed,
+     * unboxed or widened and nested objects are mapped into the type of their target
+     * field, the elements of collections and maps into its type arguments. Mutable
+     * values are copied deeply, so the new instance shares none of them with the
+     * passed object. The new instance is created by the constructor, whose parameters can be
+     * bound to the most fields of the object, like the canonical constructor of a
+     * record. Fields of the new instance without matching field keep the value of
+     * its constructor.
      *
      * @param aObj      -> The object to be translated
      * @param aCls      -> Class into which the passed object is to be translated
@@ -51,8 +88,9 @@ public class MapperUtils extends UtillityClass {
      *                  not removed.
      * @return Instance of the given translation class with the same variables that
      * match the given object.
-     * @see ObjectUtils#json(Object, String...)
-     * @see Gson#fromJson(com.google.gson.JsonElement, Class)
+     * @see FieldMapper
+     * @see #setJsonFallback(boolean)
+     * @see #setGenerationThreshold(int)
      */
     @API(status = Status.STABLE)
     public static <T, R> R mapTo(@NonNull T aObj, @NonNull Class<R> aCls, String... accessors)
@@ -66,46 +104,18 @@ public class MapperUtils extends UtillityClass {
         }
 
         try {
-            // Create a list containing all fields to be skipped during conversion
-            String[] lRemovableProperties = IterableUtils
-                    .toList(IterableUtils.chainedIterable(FieldUtils.getAllFieldsList(aCls).stream()
-                                    // Filtering the content using a list of all fields of the passed object
-                                    .filter(field ->
-                                            // Filtering of the remaining fields within the stream, according to matching
-                                            // field types. Then the number of fields is checked and a boolean value is
-                                            // returned, which is TRUE if the count of fields is greater than 0.
-                                            FieldUtils.getAllFieldsList(aObj.getClass()).stream()
-                                                    // Name matching and filtering of the fields, so that only all name-matching
-                                                    // fields are contained within the stream that is to be run through further
-                                                    .filter(fld -> field.getName().equals(fld.getName())).map(Field::getType)
-                                                    .anyMatch(type -> !field.getType().isAssignableFrom(type)))
-                                    // Rewriting the list to the names of the functions themselves
-                                    .map(Field::getName).collect(Collectors.toList()),
-                            // Create a list of names of all existing fields in the class to be created.
-                            FieldUtils.getAllFieldsList(aCls).stream().map(Field::getName).map(String::toLowerCase)
-                                    // Filtering the list according to all fields, including those in the
-                                    // transferred object, with the same name identifier.
-                                    .filter(name -> !FieldUtils.getAllFieldsList(aObj.getClass()).stream()
-                                            .map(Field::getName).map(String::toLowerCase)
-                                            // Remove the accessors as a whole
-                                            .map(e -> e.replace(StringUtils.join(accessors).toLowerCase(), ""))
-                                            .collect(Collectors.toList()).contains(name))
-                                    // Combination into an iterable object
-                                    .collect(Collectors.toList())))
-                    .toArray(String[]::new);
-
-            // Checking the merged collection for the number of elements. If the number of
-            // elements is the same size as the number of fields of the class to be created,
-            // it means that the class to be created has no matching fields with the passed
-            // object and would cause an error.
-            final int lSize = FieldUtils.getAllFields(aCls).length;
-            if (lSize != 0 && lSize == lRemovableProperties.length) {
+            // The plan of the mapping contains all fields to be skipped during conversion
+            // and is computed only on the first mapping of both classes
+            final @NonNull MappingPlan lPlan = MappingPlan.of(aObj.getClass(), aCls, accessors);
+
+            // If all fields of the class to be created have to be removed, the class to be
+            // created has no matching fields with the passed object and would cause an error.
+            if (lPlan.isEmpty()) {
                 throw new ClassCastException(ERR_HAS_NO_CONTENT);
             }
 
-            // Create a new class instance based on a json object, which re-instantiates the
-            // object itself.
-            return instantiate(aObj, aCls, lRemovableProperties);
+            // Create a new class instance, which takes over the fields of the object
+            return aCls.cast(instantiate(aObj, lPlan));
         } catch (Exception aException) {
             // Get the class of the given object
             final @NonNull String lCls = aObj.getClass().getSimpleName();
@@ -132,41 +142,35 @@ public class MapperUtils extends UtillityClass {
      */
     @NonNull
     static <T> T instantiate(Object aObject, Class<T> aClass, String[] aRemovable) {
+        // Json of the object without the fields to be ignored, which is read into the
+        // class. It is not suitable to use if the specified class is a generic type
+        // since it will not have the generic type information because of the Type
+        // Erasure feature of Java.
+        return GSON.fromJson(ObjectUtils.json(aObject, aRemovable), aClass);
+    }
 
-        // List of all included fields of the object
-        final @NonNull List<Field> lFields = FieldUtils.getAllFieldsList(aObject.getClass());
-        // Sorting out the fields to be ignored from the determined list
-        final Object[] lObjects = CollectionUtils.removeAll(lFields, Arrays.asList(aRemovable)).stream()
-                // Reformatting the individual fields in their contents
-                .map(field -> ObjectUtils.getValue(aObject, field.getName()))
-                // Summary to an iterable object (array)
-                .toArray(Object[]::new);
+    /**
+     * Function to instantiate the target class of the plan, which takes over the
+     * values of the passed object.
+     *
+     * @param aObject -> Object, whose fields are read out and transferred
+     * @param aPlan   -> Plan of the mapping from the class of the object
+     * @return The newly instantiated object of the target class of the plan
+     */
+    @NonNull
+    static Object instantiate(Object aObject, MappingPlan aPlan) {
+        final int lThreshold = generationThreshold;
+        if (lThreshold >= 0) {
+            final @Nullable GeneratedMapper lGenerated =
+                    MapperGenerator.of(aPlan.getSource(), aPlan.getTarget(), lThreshold);
+            if (lGenerated != null) return lGenerated.map(aObject);
+        }
 
-        T lInstance;
-        try {
-            // Create an iterable object that contains all constructors of the class and
-            // checks them for consistency one after the other. Subsequently, the result is
-            // to be cast into the class to be instantiated.
-            lInstance = aClass.cast(Objects.requireNonNull(Arrays.stream(aClass.getConstructors())
-                            // Sorting out constructors that do not contain the correct count of parameters
-                            .filter(constructor -> constructor.getParameters().length == lObjects.length)
-                            // Checking the parameters of the respective constructor for their type-based
-                            // correctness and conformity with the parameters to be transferred
-                            .filter(constructor -> Arrays.equals(constructor.getParameterTypes(), lObjects))
-                            // Merge all remaining results and return the searched constructor. Due to the
-                            // fact that it is not possible to have two constructors with the same passing
-                            // parameters, the result is unique here.
-                            .findAny().orElse(null))
-                    // Instantiation of the returned constructor as a new separate object
-                    .newInstance(lObjects));
-        } catch (ReflectiveOperationException | NoSuchElementException aException) {
-            // This method deserializes the specified Json into an object of the specified
-            // class. It is not suitable to use if the specified class is a generic type
-            // since it will not have the generic type information because of the Type
-            // Erasure feature of Java.
-            lInstance = GSON.fromJson(ObjectUtils.json(aObject, aRemovable), aClass);
+        final @NonNull FieldMapper lMapper = FieldMapper.of(aPlan.getSource(), aPlan.getTarget());
+        if (!lMapper.isSupported() && jsonFallback) {
+            return instantiate(aObject, aPlan.getTarget(), aPlan.getRemovable());
         }
-        return lInstance;
+        return lMapper.map(aObject);
     }
 
     static <T> T instantiateJson(Object aObject, Class<T> aClass, String[] aRemovable) {
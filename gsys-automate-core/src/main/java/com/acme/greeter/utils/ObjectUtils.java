@@ -1,5 +1,6 @@
 package com.acme.greeter.utils;
 
+import com.acme.greeter.utils.mapping.DeepCopier;
 import com.acme.greeter.utils.parameter.UtillityClass;
 import com.google.gson.JsonObject;
 import lombok.AccessLevel;
@@ -181,33 +182,19 @@ public final class ObjectUtils extends UtillityClass {
 
     /**
      * The transferred object is copied and re-instantiated to obtain an identical
-     * object with the same content characteristics.
+     * object with the same content characteristics. The whole graph of the object
+     * is copied by the {@link DeepCopier}, so shared references and cycles are
+     * preserved and every value keeps its runtime class. Only collections and maps
+     * of the JDK without accessible constructor, like <code>Arrays.asList</code>, are
+     * copied into a modifiable container of the same kind.
      *
      * @param aObject -> The object to be instantiated
      * @return The newly created copy of the object as its own independent instance
      */
     @NonNull
-    @SuppressWarnings("unchecked")
     public static <T> T deepCopyObject(T aObject) {
-        return deepCopyObject(aObject, (Class<T>) aObject.getClass());
-    }
-
-    /**
-     * The transferred object is copied and re-instantiated to obtain an identical
-     * object with the same content characteristics. Here it is possible to choose a
-     * class for reinstantiation, which either originates from the class of the
-     * passed object or corresponds directly to the class of the object.
-     *
-     * @param aObject -> The object to be instantiated
-     * @param aClass  -> The class of the new object to be instantiated
-     * @return The newly created copy of the object as its own independent instance
-     */
-    @NonNull
-    private static <T> T deepCopyObject(T aObject, Class<? extends T> aClass) {
-        // Creates a json object of the passed object and formats it back into memory as
-        // its own instance. First the json object is instantiated as such and then
-        // reformatted to the desired class.
-        return aClass.cast(GSON.fromJson(json(aObject), aClass));
+        // Copies the object graph field by field with the cached copy plans of its classes
+        return DeepCopier.copy(aObject);
     }
 
     /**
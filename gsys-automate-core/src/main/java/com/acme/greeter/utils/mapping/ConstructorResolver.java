@@ -0,0 +1,176 @@
+package com.acme.greeter.utils.mapping;
+
+import lombok.NonNull;
+import lombok.Value;
+import org.springframework.core.ResolvableType;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Resolution of the constructor, by which the instances of a target class are
+ * created from the fields of a source class. The parameters of a constructor are
+ * bound to the fields of the source class by their names, which are taken from
+ * <ol>
+ *     <li>the parameter names, if the class has been compiled with <code>-parameters</code>,</li>
+ *     <li>the instance fields of the class, if the parameter types match their
+ *     types in declaration order, like the canonical constructor of a record or
+ *     the constructors generated by Lombok.</li>
+ * </ol>
+ * Without names, the parameters are bound by the assignability of their types to
+ * the transferable fields of the source class in declaration order. Of all
+ * constructors, whose parameters are completely bound, the one with the most
+ * parameters is chosen. The named candidates of a class are analyzed only once.
+ */
+final class ConstructorResolver {
+
+    /**
+     * Constructors of a class together with the names of their parameters
+     */
+    private static final ClassValue<List<Candidate>> CANDIDATES = new ClassValue<>() {
+        @Override protected List<Candidate> computeValue(Class<?> aClass) {
+            return candidates(aClass);
+        }
+    };
+
+    private static final String RECORD = "java.lang.Record";
+
+    private ConstructorResolver() {
+        //None content...
+    }
+
+    /**
+     * Constructor with the source fields of its parameters
+     */
+    @Value
+    static class Resolution {
+        @NonNull Constructor<?> constructor;
+        @NonNull List<Field> arguments;
+    }
+
+    /**
+     * Constructor with the names of its parameters or <code>null</code>, if the
+     * names are unknown
+     */
+    @Value
+    private static class Candidate {
+        @NonNull Constructor<?> constructor;
+        @Nullable List<String> names;
+    }
+
+    /**
+     * @param aTarget  -> Class to be instantiated
+     * @param aSources -> Instance fields of the source class by their name
+     * @param aValues  -> Transferable fields of the source class in declaration order
+     * @return The constructor with the most bound parameters or <code>null</code>,
+     * if no constructor can be called with the fields of the source class
+     */
+    @Nullable
+    static Resolution resolve(Class<?> aTarget, Map<String, Field> aSources, List<Field> aValues) {
+        if (aTarget.isInterface() || Modifier.isAbstract(aTarget.getModifiers())) return null;
+
+        Resolution lResolution = null;
+        for (Candidate lCandidate : CANDIDATES.get(aTarget)) {
+            final int lCount = lCandidate.getConstructor().getParameterCount();
+            if (lResolution != null && lResolution.getArguments().size() >= lCount) continue;
+
+            final List<Field> lArguments = lCandidate.getNames() != null
+                    ? byName(lCandidate, aSources) : byType(lCandidate.getConstructor(), aValues);
+            if (lArguments != null) lResolution = new Resolution(lCandidate.getConstructor(), lArguments);
+        }
+        return lResolution;
+    }
+
+    /**
+     * @return <code>true</code> if the class is a record, which is detected by its
+     * superclass, since the classes are compiled for releases without records
+     */
+    static boolean isRecord(Class<?> aClass) {
+        return aClass.getSuperclass() != null && RECORD.equals(aClass.getSuperclass().getName());
+    }
+
+    @Nullable
+    private static List<Field> byName(Candidate aCandidate, Map<String, Field> aSources) {
+        final Class<?>[] lTypes = aCandidate.getConstructor().getParameterTypes();
+        final List<Field> lArguments = new ArrayList<>(lTypes.length);
+        for (int i = 0; i < lTypes.length; i++) {
+            final Field lSource = aSources.get(aCandidate.getNames().get(i));
+            if (lSource == null || conversion(lSource, aCandidate.getConstructor(), i) == null) return null;
+            lArguments.add(lSource);
+        }
+        return lArguments;
+    }
+
+    @Nullable
+    private static List<Field> byType(Constructor<?> aConstructor, List<Field> aValues) {
+        final Class<?>[] lTypes = aConstructor.getParameterTypes();
+        if (lTypes.length != aValues.size()) return null;
+        for (int i = 0; i < lTypes.length; i++) {
+            if (!lTypes[i].isAssignableFrom(aValues.get(i).getType())
+                    || conversion(aValues.get(i), aConstructor, i) == null) return null;
+        }
+        return aValues;
+    }
+
+    /**
+     * @param aSource      -> Field, whose value is passed to the constructor
+     * @param aConstructor -> Constructor, which takes the value
+     * @param aIndex       -> Index of the parameter, which takes the value
+     * @return The conversion of the value into the parameter or <code>null</code>,
+     * if the value can not be passed
+     */
+    @Nullable
+    static FieldPair.Conversion conversion(Field aSource, Constructor<?> aConstructor, int aIndex) {
+        final Parameter lParameter = aConstructor.getParameters()[aIndex];
+        return MappingPlan.conversion(aSource, lParameter.getType(),
+                ResolvableType.forType(lParameter.getParameterizedType()));
+    }
+
+    private static List<Candidate> candidates(Class<?> aClass) {
+        // Instance fields of the class itself, whose order is the order of the components of a record
+        final List<Field> lFields = Arrays.stream(aClass.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers())).collect(Collectors.toList());
+
+        final List<Candidate> lCandidates = new ArrayList<>();
+        for (Constructor<?> lConstructor : aClass.getDeclaredConstructors()) {
+            if (lConstructor.isSynthetic() || !lConstructor.trySetAccessible()) continue;
+
+            final List<String> lNames = names(lConstructor, lFields);
+            // Only the canonical constructor of a record can assign its fields
+            if (isRecord(aClass) && lNames == null) continue;
+            lCandidates.add(new Candidate(lConstructor, lNames));
+        }
+        return Collections.unmodifiableList(lCandidates);
+    }
+
+    @Nullable
+    private static List<String> names(Constructor<?> aConstructor, List<Field> aFields) {
+        final Parameter[] lParameters = aConstructor.getParameters();
+        if (lParameters.length == 0) return List.of();
+        if (lParameters[0].isNamePresent()) {
+            return Arrays.stream(lParameters).map(Parameter::getName).collect(Collectors.toUnmodifiableList());
+        }
+        final Class<?>[] lTypes = aConstructor.getParameterTypes();
+        // All fields or the final fields only, in the order of their declaration
+        for (List<Field> lFields : List.of(aFields, aFields.stream()
+                .filter(field -> Modifier.isFinal(field.getModifiers())).collect(Collectors.toList()))) {
+            if (matches(lTypes, lFields)) {
+                return lFields.stream().map(Field::getName).collect(Collectors.toUnmodifiableList());
+            }
+        }
+        return null;
+    }
+
+    private static boolean matches(Class<?>[] aTypes, List<Field> aFields) {
+        if (aTypes.length != aFields.size()) return false;
+        for (int i = 0; i < aTypes.length; i++) {
+            if (aTypes[i] != aFields.get(i).getType()) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,469 @@
+package com.acme.greeter.utils.mapping;
+
+import lombok.SneakyThrows;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.springframework.objenesis.SpringObjenesis;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Engine, which copies a complete object graph. The copy of every class is
+ * described by a plan, which is computed once per class: immutable objects, like
+ * strings, boxed primitives, enums and the values of <code>java.time</code>, are
+ * taken over as they are, arrays are copied by {@link System#arraycopy}, collections
+ * and maps are refilled with the copies of their elements and all other objects
+ * are created without constructor and filled field by field through cached
+ * {@link MethodHandle method handles}. Records are created by their canonical
+ * constructor. <br>
+ * <br>
+ * Every object of the graph is copied exactly once, so shared references remain
+ * shared and cycles are preserved. Since the classes of the values are used
+ * instead of the declared types, polymorphic fields keep their type. Collections
+ * and maps of the JDK, which can not be created by a public constructor, like
+ * <code>Arrays.asList</code>, <code>List.of</code> or unmodifiable views, are copied
+ * into a modifiable {@link ArrayList}, {@link LinkedHashSet}, {@link TreeSet},
+ * {@link LinkedList}, {@link LinkedHashMap}, {@link TreeMap} or
+ * {@link ConcurrentHashMap} of the same kind. Other objects of the JDK, whose
+ * state can neither be read nor cloned, are shared with the copy, apart from
+ * string builders and atomic numbers, which are recreated with their value.
+ */
+@ThreadSafe
+public final class DeepCopier {
+
+    private static final ClassValue<Plan> PLANS = new ClassValue<>() {
+        @Override protected Plan computeValue(Class<?> aClass) {
+            return plan(aClass);
+        }
+    };
+
+    private static final Set<Class<?>> IMMUTABLES = Set.of(Object.class, Class.class, String.class,
+            Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class,
+            Double.class, BigInteger.class, BigDecimal.class, UUID.class, URI.class, Locale.class, Currency.class,
+            Pattern.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final SpringObjenesis OBJENESIS = new SpringObjenesis();
+
+    private static final MethodType READ = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType WRITE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * <code>(Object queue) int</code>, the capacity of a blocking queue
+     */
+    private static final MethodHandle CAPACITY;
+
+    static {
+        try {
+            CAPACITY = LOOKUP.findStatic(DeepCopier.class, "capacity", MethodType.methodType(int.class, Object.class));
+        } catch (ReflectiveOperationException aException) {
+            throw new ExceptionInInitializerError(aException);
+        }
+    }
+
+    private DeepCopier() {
+        //None content...
+    }
+
+    /**
+     * Copies the object together with all objects, which it references.
+     *
+     * @param aObject -> Object to be copied
+     * @return The copy of the object, which shares no mutable object with it, except
+     * for objects of the JDK, whose state can not be copied
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copy(@Nullable T aObject) {
+        if (aObject == null || PLANS.get(aObject.getClass()).kind == Kind.SHARED) return aObject;
+        return (T) copy(aObject, new IdentityHashMap<>());
+    }
+
+    /**
+     * @param aCopies -> Copies of all objects of the graph, which have already been
+     *                copied, by their original
+     */
+    @SneakyThrows
+    static Object copy(@Nullable Object aObject, Map<Object, Object> aCopies) {
+        if (aObject == null) return null;
+        final Plan lPlan = PLANS.get(aObject.getClass());
+        if (lPlan.kind == Kind.SHARED) return aObject;
+
+        final Object lCopied = aCopies.get(aObject);
+        if (lCopied != null) return lCopied;
+
+        switch (lPlan.kind) {
+            case ARRAY:
+                return array(aObject, lPlan, aCopies);
+            case COLLECTION:
+                return collection(aObject, lPlan, aCopies);
+            case MAP:
+                return map(aObject, lPlan, aCopies);
+            case CLONE: {
+                final Object lCopy = (Object) lPlan.create.invokeExact(aObject);
+                aCopies.put(aObject, lCopy);
+                return lCopy;
+            }
+            case RECORD:
+                return record(aObject, lPlan, aCopies);
+            default: {
+                final Object lCopy = OBJENESIS.newInstance(aObject.getClass());
+                aCopies.put(aObject, lCopy);
+                for (FieldCopy lField : lPlan.fields) lField.copy(aObject, lCopy, aCopies);
+                return lCopy;
+            }
+        }
+    }
+
+    private static Object array(Object aArray, Plan aPlan, Map<Object, Object> aCopies) {
+        final int lLength = Array.getLength(aArray);
+        final Object lCopy = Array.newInstance(aArray.getClass().getComponentType(), lLength);
+        aCopies.put(aArray, lCopy);
+        if (aPlan.flat) {
+            // Primitives and immutable elements are copied as a block
+            System.arraycopy(aArray, 0, lCopy, 0, lLength);
+        } else {
+            final Object[] lSource = (Object[]) aArray, lTarget = (Object[]) lCopy;
+            for (int i = 0; i < lLength; i++) lTarget[i] = copy(lSource[i], aCopies);
+        }
+        return lCopy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object collection(Object aCollection, Plan aPlan, Map<Object, Object> aCopies) throws Throwable {
+        final Collection<Object> lSource = (Collection<Object>) aCollection;
+        final Collection<Object> lCopy = (Collection<Object>) (Object) aPlan.create.invokeExact(aCollection);
+        aCopies.put(aCollection, lCopy);
+        for (Object lElement : lSource) lCopy.add(copy(lElement, aCopies));
+        return lCopy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object map(Object aMap, Plan aPlan, Map<Object, Object> aCopies) throws Throwable {
+        final Map<Object, Object> lSource = (Map<Object, Object>) aMap;
+        final Map<Object, Object> lCopy = (Map<Object, Object>) (Object) aPlan.create.invokeExact(aMap);
+        aCopies.put(aMap, lCopy);
+        for (Map.Entry<Object, Object> lEntry : lSource.entrySet()) {
+            lCopy.put(copy(lEntry.getKey(), aCopies), copy(lEntry.getValue(), aCopies));
+        }
+        return lCopy;
+    }
+
+    private static Object record(Object aRecord, Plan aPlan, Map<Object, Object> aCopies) throws Throwable {
+        // A cycle through the record, which can only be created with its components, shares the original
+        aCopies.put(aRecord, aRecord);
+        final Object[] lArguments = new Object[aPlan.components.length];
+        for (int i = 0; i < lArguments.length; i++) {
+            lArguments[i] = copy((Object) aPlan.components[i].invokeExact(aRecord), aCopies);
+        }
+        final Object lCopy = (Object) aPlan.create.invokeExact(lArguments);
+        aCopies.put(aRecord, lCopy);
+        return lCopy;
+    }
+
+    private static Plan plan(Class<?> aClass) {
+        if (isImmutable(aClass)) return new Plan(Kind.SHARED);
+        if (aClass.isArray()) {
+            final Class<?> lComponent = aClass.getComponentType();
+            final Plan lPlan = new Plan(Kind.ARRAY);
+            lPlan.flat = lComponent.isPrimitive() || Modifier.isFinal(lComponent.getModifiers()) && isImmutable(lComponent);
+            return lPlan;
+        }
+        try {
+            if (aClass == EnumMap.class) return creator(Kind.MAP, EnumMap.class.getMethod("clone"), true);
+            // The enums of an enum set are immutable, so its clone is a complete copy of its own class
+            if (EnumSet.class.isAssignableFrom(aClass)) return creator(Kind.CLONE, EnumSet.class.getMethod("clone"), false);
+            if (Collection.class.isAssignableFrom(aClass)) return container(aClass, Kind.COLLECTION);
+            if (Map.class.isAssignableFrom(aClass)) return container(aClass, Kind.MAP);
+            if (aClass.getClassLoader() == null) {
+                // The state of the classes of the JDK can not be read, only a public clone or its value can copy it
+                if (aClass == StringBuilder.class || aClass == StringBuffer.class) {
+                    return valued(aClass, "toString", String.class);
+                }
+                if (aClass == AtomicInteger.class) return valued(aClass, "get", int.class);
+                if (aClass == AtomicLong.class) return valued(aClass, "get", long.class);
+                if (aClass == AtomicBoolean.class) return valued(aClass, "get", boolean.class);
+                return Cloneable.class.isAssignableFrom(aClass)
+                        ? creator(Kind.CLONE, aClass.getMethod("clone"), false) : new Plan(Kind.SHARED);
+            }
+            return ConstructorResolver.isRecord(aClass) ? record(aClass) : object(aClass);
+        } catch (ReflectiveOperationException | RuntimeException aException) {
+            // Objects, which can not be copied, are shared
+            return new Plan(Kind.SHARED);
+        }
+    }
+
+    /**
+     * Immutable classes, whose instances are shared with the copy
+     */
+    static boolean isImmutable(Class<?> aClass) {
+        return aClass.isPrimitive() || IMMUTABLES.contains(aClass) || Enum.class.isAssignableFrom(aClass)
+                || aClass.getName().startsWith("java.time.");
+    }
+
+    /**
+     * Plan of a collection or a map, which is created empty by an accessible
+     * constructor of its class. Own containers without such a constructor are copied
+     * field by field, those of the JDK are copied into a modifiable container of the
+     * same kind.
+     */
+    private static Plan container(Class<?> aClass, Kind aKind) throws ReflectiveOperationException {
+        final Plan lPlan = new Plan(aKind);
+        if (!Modifier.isAbstract(aClass.getModifiers())) {
+            lPlan.create = constructor(aClass, aClass);
+            if (lPlan.create != null) return lPlan;
+        }
+        if (aClass.getClassLoader() != null) {
+            final Plan lObject = object(aClass);
+            if (lObject.kind != Kind.SHARED) return lObject;
+        }
+        lPlan.create = aKind == Kind.MAP ? fallback(aClass, SortedMap.class, TreeMap.class, ConcurrentMap.class,
+                ConcurrentHashMap.class, Map.class, LinkedHashMap.class)
+                : fallback(aClass, SortedSet.class, TreeSet.class, List.class, ArrayList.class, Set.class,
+                LinkedHashSet.class, Queue.class, LinkedList.class, Collection.class, ArrayList.class);
+        return lPlan;
+    }
+
+    /**
+     * @return <code>(Object original) Object</code>, which creates an empty container of
+     * the class. Sorted containers and priority queues are created with the comparator
+     * of the original and bounded blocking queues with its capacity. <code>null</code>
+     * if the class has none of the needed accessible constructors.
+     *
+     * @param aOriginal -> Class or interface of the original, which declares its comparator
+     */
+    @Nullable
+    private static MethodHandle constructor(Class<?> aClass, Class<?> aOriginal) {
+        final MethodHandle lComparator = comparator(aOriginal);
+        if (lComparator != null) {
+            final MethodHandle lCreate = create(aClass, Comparator.class);
+            if (lCreate != null) return MethodHandles.filterReturnValue(lComparator, lCreate);
+            // Like the PriorityBlockingQueue, with its default initial capacity
+            final MethodHandle lSized = create(aClass, int.class, Comparator.class);
+            return lSized == null ? null
+                    : MethodHandles.filterReturnValue(lComparator, MethodHandles.insertArguments(lSized, 0, 11));
+        }
+        final MethodHandle lBounded = BlockingQueue.class.isAssignableFrom(aOriginal) ? create(aClass, int.class) : null;
+        if (lBounded != null) return MethodHandles.filterReturnValue(CAPACITY, lBounded);
+
+        final MethodHandle lCreate = create(aClass);
+        return lCreate == null ? null : MethodHandles.dropArguments(lCreate, 0, Object.class);
+    }
+
+    /**
+     * @param aKinds -> Pairs of a container interface and the class, which is created
+     *               for it, in the order of their precedence
+     * @return <code>(Object original) Object</code>, which creates an empty container
+     * of the class paired with the first interface of the original
+     */
+    private static MethodHandle fallback(Class<?> aClass, Class<?>... aKinds) {
+        for (int i = 0; i < aKinds.length; i += 2) {
+            if (!aKinds[i].isAssignableFrom(aClass)) continue;
+            // The comparator is read by the interface, since the class of the original is not accessible
+            final MethodHandle lCreate = constructor(aKinds[i + 1], aKinds[i]);
+            if (lCreate != null) return lCreate;
+        }
+        throw new IllegalArgumentException("No container for " + aClass.getName());
+    }
+
+    /**
+     * @return <code>(Object original) Comparator</code> of a sorted container or
+     * a priority queue or <code>null</code>, if the class has no accessible comparator
+     */
+    @Nullable
+    private static MethodHandle comparator(Class<?> aClass) {
+        try {
+            final Method lMethod = aClass.getMethod("comparator");
+            if (lMethod.getReturnType() != Comparator.class || Modifier.isStatic(lMethod.getModifiers())) return null;
+            lMethod.trySetAccessible();
+            return LOOKUP.unreflect(lMethod).asType(MethodType.methodType(Comparator.class, Object.class));
+        } catch (ReflectiveOperationException aException) {
+            return null;
+        }
+    }
+
+    /**
+     * @return <code>(parameters) Object</code>, which calls the constructor of the
+     * class, or <code>null</code>, if the class has no accessible constructor with
+     * these parameters
+     */
+    @Nullable
+    private static MethodHandle create(Class<?> aClass, Class<?>... aParameters) {
+        try {
+            final Constructor<?> lConstructor = aClass.getDeclaredConstructor(aParameters);
+            // Constructors of the JDK can only be called, if they are public
+            if (!lConstructor.trySetAccessible()) return null;
+            return LOOKUP.unreflectConstructor(lConstructor).asType(MethodType.methodType(Object.class, aParameters));
+        } catch (ReflectiveOperationException aException) {
+            return null;
+        }
+    }
+
+    /**
+     * @return The capacity of a blocking queue, which is unbounded with
+     * {@link Integer#MAX_VALUE} as remaining capacity
+     */
+    private static int capacity(Object aQueue) {
+        final BlockingQueue<?> lQueue = (BlockingQueue<?>) aQueue;
+        return (int) Math.min((long) lQueue.size() + lQueue.remainingCapacity(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Plan, which creates the copy by the public constructor of the class, which takes
+     * the value of the original, like <code>new AtomicInteger(original.get())</code>
+     *
+     * @param aGetter -> Name of the method, which returns the value
+     * @param aValue  -> Type of the value
+     */
+    private static Plan valued(Class<?> aClass, String aGetter, Class<?> aValue) throws ReflectiveOperationException {
+        final Plan lPlan = new Plan(Kind.CLONE);
+        final MethodHandle lGetter = LOOKUP.findVirtual(aClass, aGetter, MethodType.methodType(aValue));
+        final MethodHandle lCreate = LOOKUP.findConstructor(aClass, MethodType.methodType(void.class, aValue));
+        lPlan.create = MethodHandles.filterArguments(lCreate, 0, lGetter).asType(READ);
+        return lPlan;
+    }
+
+    /**
+     * Plan, which creates the copy by a public method of the original, like <code>clone()</code>
+     *
+     * @param aClear -> whether the created copy is cleared to be refilled
+     */
+    private static Plan creator(Kind aKind, Method aMethod, boolean aClear)
+            throws ReflectiveOperationException {
+        final Plan lPlan = new Plan(aKind);
+        MethodHandle lCreate = LOOKUP.unreflect(aMethod).asType(READ);
+        if (aClear) {
+            // The created copy is cleared before it is returned
+            final MethodHandle lClear = LOOKUP.findVirtual(Map.class, "clear", MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(void.class, Object.class));
+            lCreate = MethodHandles.filterArguments(
+                    MethodHandles.foldArguments(MethodHandles.identity(Object.class), lClear), 0, lCreate);
+        }
+        lPlan.create = lCreate;
+        return lPlan;
+    }
+
+    private static Plan record(Class<?> aClass) throws ReflectiveOperationException {
+        final Map<String, Field> lComponents = new LinkedHashMap<>();
+        for (Field lField : aClass.getDeclaredFields()) {
+            if (!Modifier.isStatic(lField.getModifiers()) && lField.trySetAccessible()) {
+                lComponents.put(lField.getName(), lField);
+            }
+        }
+        final ConstructorResolver.Resolution lResolution =
+                ConstructorResolver.resolve(aClass, lComponents, new ArrayList<>(lComponents.values()));
+        if (lResolution == null) return new Plan(Kind.SHARED);
+
+        final Constructor<?> lConstructor = lResolution.getConstructor();
+        final Plan lPlan = new Plan(Kind.RECORD);
+        lPlan.create = LOOKUP.unreflectConstructor(lConstructor)
+                .asType(MethodType.genericMethodType(lConstructor.getParameterCount()))
+                .asSpreader(Object[].class, lConstructor.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        final List<Field> lArguments = lResolution.getArguments();
+        lPlan.components = new MethodHandle[lArguments.size()];
+        for (int i = 0; i < lPlan.components.length; i++) {
+            lPlan.components[i] = LOOKUP.unreflectGetter(lArguments.get(i)).asType(READ);
+        }
+        return lPlan;
+    }
+
+    private static Plan object(Class<?> aClass) throws IllegalAccessException {
+        final List<Field> lFields = FieldUtils.getAllFieldsList(aClass).stream()
+                .filter(field -> !Modifier.isStatic(field.getModifiers())).collect(Collectors.toList());
+        final Plan lPlan = new Plan(Kind.OBJECT);
+        lPlan.fields = new FieldCopy[lFields.size()];
+        for (int i = 0; i < lPlan.fields.length; i++) {
+            final Field lField = lFields.get(i);
+            // Fields, whose state can not be transferred completely, make the whole object shared
+            if (!lField.trySetAccessible()) return new Plan(Kind.SHARED);
+            lPlan.fields[i] = new FieldCopy(lField);
+        }
+        return lPlan;
+    }
+
+    private enum Kind {
+        SHARED, ARRAY, COLLECTION, MAP, CLONE, RECORD, OBJECT
+    }
+
+    /**
+     * Copy plan of a class
+     */
+    private static final class Plan {
+        final Kind kind;
+        /**
+         * <code>true</code> if the elements of an array are taken over as they are
+         */
+        boolean flat;
+        /**
+         * Creation of the copy, <code>(Object original) Object</code> or for records
+         * <code>(Object[] components) Object</code>
+         */
+        @Nullable MethodHandle create;
+        /**
+         * Getters of the components of a record in the order of the canonical constructor
+         */
+        MethodHandle[] components;
+        FieldCopy[] fields;
+
+        Plan(Kind aKind) {
+            this.kind = aKind;
+        }
+    }
+
+    /**
+     * Copy of a single field
+     */
+    private static final class FieldCopy {
+
+        /**
+         * <code>(Object target, Object source) void</code>, transfers the value as it
+         * is or <code>null</code>, if the value has to be copied
+         */
+        private final @Nullable MethodHandle transfer;
+        private final MethodHandle read;
+        private final MethodHandle write;
+
+        FieldCopy(Field aField) throws IllegalAccessException {
+            final Class<?> lType = aField.getType();
+            final MethodHandle lGetter = LOOKUP.unreflectGetter(aField);
+            final MethodHandle lSetter = LOOKUP.unreflectSetter(aField);
+            this.read = lGetter.asType(READ);
+            this.write = lSetter.asType(WRITE);
+
+            // Primitives and final immutable types, the outer instance of an inner class is copied
+            // along, so it resolves to the copy of the outer object
+            final boolean lTransfer = lType.isPrimitive() || Modifier.isFinal(lType.getModifiers()) && isImmutable(lType);
+            this.transfer = lTransfer ? MethodHandles.filterArguments(
+                    lSetter.asType(MethodType.methodType(void.class, Object.class, lType)), 1,
+                    lGetter.asType(MethodType.methodType(lType, Object.class))) : null;
+        }
+
+        void copy(Object aSource, Object aTarget, Map<Object, Object> aCopies) throws Throwable {
+            if (transfer != null) {
+                transfer.invokeExact(aTarget, aSource);
+            } else {
+                write.invokeExact(aTarget, DeepCopier.copy((Object) read.invokeExact(aSource), aCopies));
+            }
+        }
+    }
+}
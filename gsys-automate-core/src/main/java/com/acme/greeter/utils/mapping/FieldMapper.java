@@ -0,0 +1,429 @@
+package com.acme.greeter.utils.mapping;
+
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import org.springframework.core.ResolvableType;
+import org.springframework.objenesis.SpringObjenesis;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Mapper, which copies the {@link MappingPlan#getPairs() field pairs} of a plan
+ * directly from the source object into a new instance of the target class. Every
+ * field is read and written by a {@link MethodHandle}, which is created once per
+ * pair and contains the boxing, unboxing and widening of the value, so a mapping
+ * creates neither intermediate objects nor a json string. Nested objects are
+ * mapped recursively by the mapper of their own classes, the elements of
+ * collections and maps into the type arguments of the target field. Mutable
+ * values, which are assignable, are copied {@link DeepCopier deeply}, so the
+ * mapped object shares nothing with its source. <br>
+ * <br>
+ * The target class is instantiated by the {@link MappingPlan#getConstructor()
+ * constructor of the plan}, whose arguments are read and converted by a single
+ * method handle, or without any constructor, if none can be called. Final fields,
+ * which have been assigned by a constructor, like those of records, are not
+ * copied again. Classes, whose other fields can not be written, are
+ * {@link #isSupported() not supported}.
+ */
+@ThreadSafe
+public final class FieldMapper {
+
+    /**
+     * Mappers by their source and target class
+     */
+    private static final Map<MappingKey, FieldMapper> MAPPERS = new ConcurrentHashMap<>();
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final SpringObjenesis OBJENESIS = new SpringObjenesis();
+
+    private static final MethodType COPY = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType READ = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType CREATE = MethodType.methodType(Object.class, Object.class, Graph.class);
+    private static final MethodType CONVERT = MethodType.methodType(Object.class, Object.class, Graph.class);
+
+    private static final MethodHandle IS_NULL, NESTED, DEEP_COPY, ELEMENTS;
+
+    /**
+     * Placeholder of an object, whose constructor arguments are being mapped, so it
+     * does not exist yet
+     */
+    private static final Object PENDING = new Object();
+
+    static {
+        try {
+            IS_NULL = LOOKUP.findStatic(Objects.class, "isNull", MethodType.methodType(boolean.class, Object.class));
+            NESTED = LOOKUP.findStatic(FieldMapper.class, "nested",
+                    MethodType.methodType(Object.class, Object.class, Class.class, Graph.class));
+            DEEP_COPY = LOOKUP.findStatic(FieldMapper.class, "copy", CONVERT);
+            ELEMENTS = LOOKUP.findVirtual(Elements.class, "map", CONVERT);
+        } catch (ReflectiveOperationException aException) {
+            throw new ExceptionInInitializerError(aException);
+        }
+    }
+
+    private final @NonNull Class<?> target;
+    private final @Nullable MethodHandle constructor;
+    private final @NonNull Copier[] copiers;
+    /**
+     * <code>true</code> if values are copied or mapped, so a mapping has to keep
+     * track of its {@link Graph graph}
+     */
+    private final boolean graph;
+    private final @Nullable String failure;
+
+    private FieldMapper(MappingPlan aPlan) {
+        this.target = aPlan.getTarget();
+
+        MethodHandle lConstructor = null;
+        Copier[] lCopiers = new Copier[0];
+        boolean lGraph = false;
+        String lFailure = null;
+        try {
+            final List<FieldPair.Conversion> lArguments = arguments(aPlan);
+            lConstructor = constructor(aPlan, lArguments);
+            lGraph = lArguments.stream().anyMatch(FieldMapper::isConverting);
+            // Final fields are left as they have been assigned by a constructor with arguments
+            final boolean lAssigned = !aPlan.getValues().isEmpty();
+            lCopiers = aPlan.getPairs().stream()
+                    .filter(pair -> !lAssigned || !Modifier.isFinal(pair.getTarget().getModifiers()))
+                    .map(Copier::new).toArray(Copier[]::new);
+        } catch (RuntimeException aException) {
+            // The fields of records, hidden classes or closed modules can not be written
+            lFailure = aException.toString();
+        }
+        this.constructor = lConstructor;
+        this.copiers = lCopiers;
+        this.graph = lGraph || Arrays.stream(lCopiers).anyMatch(copier -> isConverting(copier.conversion));
+        this.failure = lFailure;
+    }
+
+    /**
+     * Returns the mapper of both classes, which is created on the first call only.
+     *
+     * @param aSource -> Class of the objects to be mapped
+     * @param aTarget -> Class into which the objects are mapped
+     * @return The shared mapper of both classes
+     */
+    @NonNull
+    public static FieldMapper of(@NonNull Class<?> aSource, @NonNull Class<?> aTarget) {
+        return MAPPERS.computeIfAbsent(new MappingKey(aSource, aTarget, List.of()),
+                key -> new FieldMapper(MappingPlan.of(aSource, aTarget)));
+    }
+
+    /**
+     * @return <code>true</code> if the instances of the target class can be created
+     * and all their paired fields can be written
+     */
+    public boolean isSupported() {
+        return failure == null;
+    }
+
+    /**
+     * Maps the object into a new instance of the target class.
+     *
+     * @param aObject -> Object of the source class
+     * @return The new instance, which contains the values of all paired fields
+     * @throws UnsupportedOperationException if the mapper is not supported
+     */
+    @NonNull
+    public Object map(@NonNull Object aObject) {
+        return map(aObject, graph ? new Graph() : null);
+    }
+
+    /**
+     * @param aGraph -> Objects of the graph, which have already been mapped or copied
+     */
+    @SneakyThrows
+    private Object map(Object aObject, @Nullable Graph aGraph) {
+        if (failure != null) {
+            throw new UnsupportedOperationException("Can not map into " + target.getName() + ": " + failure);
+        }
+        // A cycle back to the object through its constructor arguments can not be closed
+        if (aGraph != null) aGraph.mapped.put(aObject, PENDING);
+        final Object lInstance = constructor != null
+                ? (Object) constructor.invokeExact(aObject, aGraph) : OBJENESIS.newInstance(target);
+        if (aGraph != null) aGraph.mapped.put(aObject, lInstance);
+
+        for (Copier lCopier : copiers) {
+            lCopier.copy(aObject, lInstance, aGraph);
+        }
+        return lInstance;
+    }
+
+    /**
+     * @return The conversions of the {@link MappingPlan#getValues() values} into the
+     * parameters of the constructor of the plan
+     */
+    private static List<FieldPair.Conversion> arguments(MappingPlan aPlan) {
+        final Constructor<?> lConstructor = aPlan.getConstructor();
+        if (lConstructor == null) return List.of();
+        return IntStream.range(0, lConstructor.getParameterCount())
+                .mapToObj(i -> ConstructorResolver.conversion(aPlan.getValues().get(i), lConstructor, i))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return <code>(Object source, Graph graph) Object</code>, which reads the
+     * arguments from the source object and calls the constructor of the plan, or
+     * <code>null</code>, if the instance is created without calling a constructor
+     */
+    @Nullable
+    private static MethodHandle constructor(MappingPlan aPlan, List<FieldPair.Conversion> aArguments) {
+        final Constructor<?> lConstructor = aPlan.getConstructor();
+        if (lConstructor == null) return null;
+        try {
+            MethodHandle lHandle = LOOKUP.unreflectConstructor(lConstructor);
+            final List<Field> lValues = aPlan.getValues();
+            final Class<?>[] lTypes = lConstructor.getParameterTypes();
+            // Every parameter is replaced by the source and the graph, from the last one,
+            // so the positions of the parameters in front are kept
+            for (int i = lTypes.length - 1; i >= 0; i--) {
+                final ResolvableType lGeneric = ResolvableType.forType(lConstructor.getParameters()[i].getParameterizedType());
+                lHandle = MethodHandles.collectArguments(lHandle, i,
+                        argument(lValues.get(i), lTypes[i], lGeneric, aArguments.get(i)));
+            }
+            // Every argument is read from the same source object within the same graph
+            final Class<?>[] lParameters = new Class<?>[lTypes.length * 2];
+            final int[] lOrder = new int[lParameters.length];
+            for (int i = 0; i < lParameters.length; i++) {
+                lParameters[i] = i % 2 == 0 ? Object.class : Graph.class;
+                lOrder[i] = i % 2;
+            }
+            return MethodHandles.permuteArguments(
+                    lHandle.asType(MethodType.methodType(Object.class, lParameters)), CREATE, lOrder);
+        } catch (IllegalAccessException aException) {
+            throw new IllegalStateException(aException);
+        }
+    }
+
+    /**
+     * @return <code>(Object source, Graph graph) type</code>, which reads the field
+     * and converts its value into the type of the parameter
+     */
+    private static MethodHandle argument(Field aSource, Class<?> aType, ResolvableType aGeneric,
+                                         FieldPair.Conversion aConversion) throws IllegalAccessException {
+        final Class<?> lFrom = aSource.getType();
+        final MethodHandle lGetter = LOOKUP.unreflectGetter(aSource).asType(MethodType.methodType(lFrom, Object.class));
+        final MethodType lType = MethodType.methodType(aType, Object.class);
+
+        final MethodHandle lConverter = converter(aSource, aType, aGeneric, aConversion);
+        if (lConverter != null) {
+            return MethodHandles.collectArguments(lConverter, 0, lGetter.asType(READ))
+                    .asType(MethodType.methodType(aType, Object.class, Graph.class));
+        }
+        if (lFrom.isPrimitive() || !aType.isPrimitive()) {
+            return MethodHandles.dropArguments(lGetter.asType(lType), 1, Graph.class);
+        }
+        // An unboxed null is passed as the default value of the primitive
+        final MethodHandle lUnbox = MethodHandles.guardWithTest(
+                IS_NULL.asType(MethodType.methodType(boolean.class, lFrom)),
+                MethodHandles.dropArguments(MethodHandles.zero(aType), 0, lFrom),
+                MethodHandles.identity(lFrom).asType(MethodType.methodType(aType, lFrom)));
+        return MethodHandles.dropArguments(MethodHandles.filterReturnValue(lGetter, lUnbox), 1, Graph.class);
+    }
+
+    /**
+     * @return <code>(Object value, Graph graph) Object</code>, which copies or maps
+     * the value into the type of the target, or <code>null</code>, if the value is
+     * taken over as it is
+     */
+    @Nullable
+    private static MethodHandle converter(Field aSource, Class<?> aType, ResolvableType aGeneric,
+                                          FieldPair.Conversion aConversion) {
+        switch (aConversion) {
+            case COPY:
+                return DEEP_COPY;
+            case NESTED:
+                return MethodHandles.insertArguments(NESTED, 1, aType);
+            case ELEMENTS:
+                return ELEMENTS.bindTo(new Elements(aType,
+                        MappingPlan.elements(ResolvableType.forField(aSource), aGeneric)));
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the values of the conversion are copied or mapped
+     * within the graph of the mapping
+     */
+    private static boolean isConverting(FieldPair.Conversion aConversion) {
+        return aConversion != FieldPair.Conversion.ASSIGN && aConversion != FieldPair.Conversion.CONVERT;
+    }
+
+    /**
+     * Maps a nested value into the type of its field or parameter. Values, which
+     * are already of this type, are copied.
+     */
+    private static Object nested(Object aValue, Class<?> aType, Graph aGraph) {
+        if (aValue == null) return null;
+        final Object lMapped = aGraph.mapped.get(aValue);
+        if (lMapped == PENDING) {
+            throw new IllegalStateException("The cycle back to " + aValue.getClass().getName()
+                    + " passes a constructor argument, whose object does not exist yet");
+        }
+        if (lMapped != null) return lMapped;
+        // Subclasses of the target type are taken over like any assignable value
+        if (aType.isInstance(aValue)) return copy(aValue, aGraph);
+        return of(aValue.getClass(), aType).map(aValue, aGraph);
+    }
+
+    /**
+     * Copies an assignable value, which may be mutable.
+     */
+    private static Object copy(Object aValue, Graph aGraph) {
+        return DeepCopier.copy(aValue, aGraph.copies);
+    }
+
+    /**
+     * Objects of a single mapping, which have already been mapped or copied, so
+     * shared and cyclic references of the graph are mapped and copied only once
+     */
+    private static final class Graph {
+        /**
+         * Mapped objects by their source
+         */
+        final Map<Object, Object> mapped = new IdentityHashMap<>();
+        /**
+         * {@link DeepCopier Copies} of the assignable values by their original
+         */
+        final Map<Object, Object> copies = new IdentityHashMap<>();
+    }
+
+    /**
+     * Mapping of the elements of a collection or the keys and values of a map into a
+     * new container of the target type. The container itself is created per field.
+     */
+    private static final class Elements {
+        /**
+         * <code>() Object</code>, creates the empty container
+         */
+        private final MethodHandle create;
+        /**
+         * Classes of the elements or of the keys and values
+         */
+        private final Class<?>[] types;
+
+        Elements(Class<?> aType, @Nullable Class<?>[] aTypes) {
+            final Class<?> lContainer = MappingPlan.container(aType);
+            if (lContainer == null || aTypes == null) {
+                throw new IllegalStateException("The elements of " + aType.getName() + " can not be mapped");
+            }
+            try {
+                final Constructor<?> lConstructor = lContainer.getConstructor();
+                lConstructor.trySetAccessible();
+                this.create = LOOKUP.unreflectConstructor(lConstructor).asType(MethodType.methodType(Object.class));
+            } catch (ReflectiveOperationException aException) {
+                throw new IllegalStateException(aException);
+            }
+            this.types = aTypes;
+        }
+
+        @SneakyThrows
+        @SuppressWarnings("unchecked")
+        Object map(Object aValue, Graph aGraph) {
+            final Object lContainer = (Object) create.invokeExact();
+            if (aValue instanceof Map) {
+                final Map<Object, Object> lMap = (Map<Object, Object>) lContainer;
+                for (Map.Entry<?, ?> lEntry : ((Map<?, ?>) aValue).entrySet()) {
+                    lMap.put(element(lEntry.getKey(), types[0], aGraph), element(lEntry.getValue(), types[1], aGraph));
+                }
+            } else {
+                final Collection<Object> lCollection = (Collection<Object>) lContainer;
+                for (Object lElement : (Collection<?>) aValue) {
+                    lCollection.add(element(lElement, types[0], aGraph));
+                }
+            }
+            return lContainer;
+        }
+
+        private static Object element(Object aElement, Class<?> aType, Graph aGraph) {
+            return aElement == null || aType.isInstance(aElement) ? copy(aElement, aGraph) : nested(aElement, aType, aGraph);
+        }
+    }
+
+    /**
+     * Transfer of the value of a single field pair
+     */
+    private static final class Copier {
+
+        private final FieldPair.Conversion conversion;
+        private final Class<?> type;
+        /**
+         * <code>(Object value, Graph graph) Object</code>, copies or maps the value or
+         * <code>null</code>, if the value is taken over as it is
+         */
+        private final @Nullable MethodHandle convert;
+        /**
+         * <code>(Object source) Object</code>, reads the value as object
+         */
+        private final MethodHandle read;
+        /**
+         * <code>(Object target, Object value) void</code>, writes an object read by {@link #read}
+         */
+        private final MethodHandle write;
+        /**
+         * <code>(Object target, Object source) void</code>, transfers the value without
+         * boxing or <code>null</code>, if the value may be <code>null</code> and
+         * has to be unboxed, copied or mapped
+         */
+        private final @Nullable MethodHandle copy;
+
+        Copier(FieldPair aPair) {
+            final Field lSource = aPair.getSource(), lTarget = aPair.getTarget();
+            this.conversion = aPair.getConversion();
+            this.type = lTarget.getType();
+
+            final MethodHandle lGetter, lSetter;
+            try {
+                lGetter = LOOKUP.unreflectGetter(lSource);
+                lSetter = LOOKUP.unreflectSetter(lTarget);
+            } catch (IllegalAccessException aException) {
+                throw new IllegalStateException(aException);
+            }
+            this.read = lGetter.asType(READ);
+            this.convert = converter(lSource, type, ResolvableType.forField(lTarget), conversion);
+
+            if (convert != null) {
+                this.write = lSetter.asType(COPY);
+                this.copy = null;
+                return;
+            }
+            // Getter, whose value is converted into the type of the target field
+            final MethodHandle lConverted = lGetter.asType(MethodType.methodType(type, Object.class));
+            final MethodHandle lSetterOf = lSetter.asType(MethodType.methodType(void.class, Object.class, type));
+            this.write = MethodHandles.filterArguments(lSetterOf, 1, MethodHandles.identity(lSource.getType())
+                    .asType(MethodType.methodType(type, Object.class)));
+            // An unboxed null would throw, so it is read first and the default value is kept
+            this.copy = !lSource.getType().isPrimitive() && type.isPrimitive()
+                    ? null : MethodHandles.filterArguments(lSetterOf, 1, lConverted);
+        }
+
+        void copy(Object aSource, Object aTarget, @Nullable Graph aGraph) throws Throwable {
+            if (copy != null) {
+                copy.invokeExact(aTarget, aSource);
+                return;
+            }
+            final Object lValue = (Object) read.invokeExact(aSource);
+            if (lValue == null) return;
+
+            write.invokeExact(aTarget, convert != null ? (Object) convert.invokeExact(lValue, aGraph) : lValue);
+        }
+    }
+}
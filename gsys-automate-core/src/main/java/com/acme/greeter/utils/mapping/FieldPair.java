@@ -0,0 +1,49 @@
+package com.acme.greeter.utils.mapping;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import java.lang.reflect.Field;
+
+/**
+ * Field of the source class, whose content is taken over by the field of the
+ * target class with the same name.
+ */
+@Value
+public class FieldPair {
+
+    /**
+     * Kind of the transfer of a value between both fields
+     */
+    public enum Conversion {
+        /**
+         * The value is assignable to the target field and immutable, so it is shared
+         */
+        ASSIGN,
+        /**
+         * The value is assignable to the target field, but may be mutable, so it is
+         * copied {@link DeepCopier deeply}
+         */
+        COPY,
+        /**
+         * The value is boxed, unboxed or widened, e.g. from <code>int</code> to
+         * {@link Integer} or from {@link Integer} to <code>long</code>
+         */
+        CONVERT,
+        /**
+         * The value is an object of its own, which is mapped into the type of the
+         * target field
+         */
+        NESTED,
+        /**
+         * The value is a collection or a map, whose elements are mapped into the type
+         * arguments of the target field, e.g. from <code>List&lt;Item&gt;</code> to
+         * <code>List&lt;ItemDto&gt;</code>
+         */
+        ELEMENTS
+    }
+
+    @NonNull Field source;
+    @NonNull Field target;
+    @NonNull Conversion conversion;
+}
@@ -0,0 +1,25 @@
+package com.acme.greeter.utils.mapping;
+
+import lombok.NonNull;
+
+/**
+ * Base class of the mappers, which are {@link MapperGenerator generated} at
+ * runtime for a single pair of a source and a target class. A generated mapper
+ * calls the getters of the source object and the setters of the new instance
+ * directly, just like a hand-written mapper.
+ */
+public abstract class GeneratedMapper {
+
+    protected GeneratedMapper() {
+        //None content...
+    }
+
+    /**
+     * Maps the object into a new instance of the target class.
+     *
+     * @param aObject -> Object of the source class
+     * @return The new instance, which contains the values of all paired fields
+     */
+    @NonNull
+    public abstract Object map(@NonNull Object aObject);
+}
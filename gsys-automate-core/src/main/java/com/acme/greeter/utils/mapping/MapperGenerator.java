@@ -0,0 +1,412 @@
+package com.acme.greeter.utils.mapping;
+
+import lombok.NonNull;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.asm.ClassReader;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Handle;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.Type;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generator of {@link GeneratedMapper mappers}, whose bytecode is created at
+ * runtime for a pair of classes, which are mapped very often. The generated
+ * class reads every paired field by the public getter of the source class and
+ * writes it by the public setter of the target class, so the JIT can inline the
+ * mapping like a hand-written one. The bytecode is written by the ASM library,
+ * which is repackaged within Spring, and defined by an own class loader. <br>
+ * <br>
+ * A mapper can only be generated, if both classes are public, the target class
+ * is created by its public no-argument constructor and every field pair has
+ * public accessors and its value is shared, boxed, unboxed or widened, but
+ * neither copied nor mapped. The accessors have to be trivial,
+ * their bytecode only reads or writes the paired field, so the generated mapper
+ * gives the same result as the {@link FieldMapper}, which accesses the fields
+ * directly. Otherwise, and for records as target, no mapper is generated and
+ * the mapping remains with the {@link FieldMapper}.
+ */
+@ThreadSafe
+public final class MapperGenerator implements Opcodes {
+
+    /**
+     * Generation states by their source and then their target class, which are
+     * held by the classes themselves, so their class loaders can be unloaded
+     */
+    private static final ClassValue<ClassValue<Entry>> ENTRIES = new ClassValue<>() {
+        @Override protected ClassValue<Entry> computeValue(Class<?> aSource) {
+            return new ClassValue<>() {
+                @Override protected Entry computeValue(Class<?> aTarget) {
+                    return new Entry();
+                }
+            };
+        }
+    };
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private static final String BASE = Type.getInternalName(GeneratedMapper.class);
+    private static final String MAP = Type.getMethodDescriptor(Type.getType(Object.class), Type.getType(Object.class));
+
+    private MapperGenerator() {
+        //None content...
+    }
+
+    /**
+     * Returns the generated mapper of both classes, as soon as the classes have
+     * been mapped more often than the threshold.
+     *
+     * @param aSource    -> Class of the objects to be mapped
+     * @param aTarget    -> Class into which the objects are mapped
+     * @param aThreshold -> Count of mappings, after which the mapper is generated
+     * @return The generated mapper or <code>null</code>, if the threshold has not
+     * been reached yet or no mapper can be generated for both classes
+     */
+    @Nullable
+    public static GeneratedMapper of(@NonNull Class<?> aSource, @NonNull Class<?> aTarget, int aThreshold) {
+        final Entry lEntry = ENTRIES.get(aSource).get(aTarget);
+        final Optional<GeneratedMapper> lMapper = lEntry.mapper;
+        if (lMapper != null) return lMapper.orElse(null);
+        if (lEntry.calls.incrementAndGet() <= aThreshold) return null;
+
+        synchronized (lEntry) {
+            if (lEntry.mapper == null) {
+                lEntry.mapper = Optional.ofNullable(generate(MappingPlan.of(aSource, aTarget)));
+            }
+            return lEntry.mapper.orElse(null);
+        }
+    }
+
+    /**
+     * Generates the mapper of the plan.
+     *
+     * @param aPlan -> Plan of the mapping
+     * @return The generated mapper or <code>null</code>, if no mapper can be
+     * generated for the classes of the plan
+     */
+    @Nullable
+    public static GeneratedMapper generate(@NonNull MappingPlan aPlan) {
+        final Class<?> lSource = aPlan.getSource(), lTarget = aPlan.getTarget();
+        if (!Modifier.isPublic(lSource.getModifiers()) || !Modifier.isPublic(lTarget.getModifiers())
+                || Modifier.isAbstract(lTarget.getModifiers())) return null;
+        // The reflective mapping would call another constructor or none at all
+        final Constructor<?> lConstructor = aPlan.getConstructor();
+        if (lConstructor == null || lConstructor.getParameterCount() != 0
+                || !Modifier.isPublic(lConstructor.getModifiers())) return null;
+
+        final String lName = GeneratedMapper.class.getPackage().getName() + ".Mapper$"
+                + lSource.getSimpleName() + "$" + lTarget.getSimpleName() + "$" + COUNTER.incrementAndGet();
+        try {
+            final byte[] lCode = bytecode(lName.replace('.', '/'), aPlan);
+            if (lCode == null) return null;
+
+            final Loader lLoader = new Loader(lTarget.getClassLoader(), lSource.getClassLoader());
+            // Instantiation links and verifies the generated class
+            return (GeneratedMapper) lLoader.define(lName, lCode).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException aException) {
+            // Like closed modules, the mapping remains with the reflective plan
+            return null;
+        }
+    }
+
+    @Nullable
+    private static byte[] bytecode(String aName, MappingPlan aPlan) {
+        final String lSource = Type.getInternalName(aPlan.getSource());
+        final String lTarget = Type.getInternalName(aPlan.getTarget());
+
+        final ClassWriter lWriter = new ClassWriter(ClassWriter.COMPUTE_FRAMES) {
+            @Override protected String getCommonSuperClass(String aType1, String aType2) {
+                // The classes of the mapping are not visible to the class loader of ASM
+                return "java/lang/Object";
+            }
+        };
+        lWriter.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, aName, null, BASE, null);
+
+        final MethodVisitor lInit = lWriter.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        lInit.visitCode();
+        lInit.visitVarInsn(ALOAD, 0);
+        lInit.visitMethodInsn(INVOKESPECIAL, BASE, "<init>", "()V", false);
+        lInit.visitInsn(RETURN);
+        lInit.visitMaxs(0, 0);
+        lInit.visitEnd();
+
+        // Locals: 0 this, 1 object, 2 source, 3 target, 4 value to be unboxed
+        final MethodVisitor lMap = lWriter.visitMethod(ACC_PUBLIC, "map", MAP, null, null);
+        lMap.visitCode();
+        lMap.visitVarInsn(ALOAD, 1);
+        lMap.visitTypeInsn(CHECKCAST, lSource);
+        lMap.visitVarInsn(ASTORE, 2);
+        lMap.visitTypeInsn(NEW, lTarget);
+        lMap.visitInsn(DUP);
+        lMap.visitMethodInsn(INVOKESPECIAL, lTarget, "<init>", "()V", false);
+        lMap.visitVarInsn(ASTORE, 3);
+
+        for (FieldPair lPair : aPlan.getPairs()) {
+            if (!copy(lMap, lSource, lTarget, aPlan, lPair)) return null;
+        }
+        lMap.visitVarInsn(ALOAD, 3);
+        lMap.visitInsn(ARETURN);
+        lMap.visitMaxs(0, 0);
+        lMap.visitEnd();
+
+        lWriter.visitEnd();
+        return lWriter.toByteArray();
+    }
+
+    /**
+     * Writes the transfer of a single field pair.
+     *
+     * @return <code>false</code> if the pair can not be transferred by accessors
+     */
+    private static boolean copy(MethodVisitor aMap, String aSource, String aTarget, MappingPlan aPlan, FieldPair aPair) {
+        final FieldPair.Conversion lConversion = aPair.getConversion();
+        if (lConversion != FieldPair.Conversion.ASSIGN && lConversion != FieldPair.Conversion.CONVERT) return false;
+        final Method lGetter = getter(aPlan.getSource(), aPair.getSource());
+        final Method lSetter = setter(aPlan.getTarget(), aPair.getTarget());
+        if (lGetter == null || lSetter == null) return false;
+        if (!isAccessorOf(lGetter, aPair.getSource()) || !isAccessorOf(lSetter, aPair.getTarget())) return false;
+
+        final Class<?> lFrom = lGetter.getReturnType(), lTo = lSetter.getParameterTypes()[0];
+        final Label lSkip = new Label();
+
+        if (!lFrom.isPrimitive() && lTo.isPrimitive()) {
+            // Unboxing, a null value keeps the default value of the target
+            final Class<?> lPrimitive = ClassUtils.wrapperToPrimitive(lFrom);
+            if (lPrimitive == null || !widen(null, lPrimitive, lTo)) return false;
+
+            aMap.visitVarInsn(ALOAD, 2);
+            invoke(aMap, aSource, lGetter);
+            aMap.visitVarInsn(ASTORE, 4);
+            aMap.visitVarInsn(ALOAD, 4);
+            aMap.visitJumpInsn(IFNULL, lSkip);
+            aMap.visitVarInsn(ALOAD, 3);
+            aMap.visitVarInsn(ALOAD, 4);
+            aMap.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(lFrom), lPrimitive.getName() + "Value",
+                    Type.getMethodDescriptor(Type.getType(lPrimitive)), false);
+            widen(aMap, lPrimitive, lTo);
+        } else {
+            aMap.visitVarInsn(ALOAD, 3);
+            aMap.visitVarInsn(ALOAD, 2);
+            invoke(aMap, aSource, lGetter);
+            if (lFrom.isPrimitive() && !lTo.isPrimitive()) {
+                // Boxing into the wrapper, which has to be assignable to the target
+                final Class<?> lWrapper = ClassUtils.primitiveToWrapper(lFrom);
+                if (!lTo.isAssignableFrom(lWrapper)) return false;
+                aMap.visitMethodInsn(INVOKESTATIC, Type.getInternalName(lWrapper), "valueOf",
+                        Type.getMethodDescriptor(Type.getType(lWrapper), Type.getType(lFrom)), false);
+            } else if (lFrom.isPrimitive()) {
+                if (!widen(aMap, lFrom, lTo)) return false;
+            } else if (!lTo.isAssignableFrom(lFrom)) {
+                return false;
+            }
+        }
+        invoke(aMap, aTarget, lSetter);
+        // Fluent setters return a value, which is dropped
+        final Class<?> lReturn = lSetter.getReturnType();
+        if (lReturn == long.class || lReturn == double.class) aMap.visitInsn(POP2);
+        else if (lReturn != void.class) aMap.visitInsn(POP);
+        aMap.visitLabel(lSkip);
+        return true;
+    }
+
+    private static void invoke(MethodVisitor aMap, String aOwner, Method aMethod) {
+        aMap.visitMethodInsn(INVOKEVIRTUAL, aOwner, aMethod.getName(), Type.getMethodDescriptor(aMethod), false);
+    }
+
+    /**
+     * Writes the widening primitive conversion, if a visitor is given.
+     *
+     * @return <code>false</code> if the primitive can not be widened to the target
+     */
+    private static boolean widen(@Nullable MethodVisitor aMap, Class<?> aFrom, Class<?> aTo) {
+        if (aFrom == aTo) return true;
+        final int lOpcode;
+        final boolean lInt = aFrom == int.class || aFrom == short.class || aFrom == char.class || aFrom == byte.class;
+        if (aFrom == byte.class && aTo == short.class || lInt && aTo == int.class && aFrom != int.class) {
+            lOpcode = NOP;
+        } else if (lInt && aTo == long.class) {
+            lOpcode = I2L;
+        } else if (lInt && aTo == float.class) {
+            lOpcode = I2F;
+        } else if (lInt && aTo == double.class) {
+            lOpcode = I2D;
+        } else if (aFrom == long.class && aTo == float.class) {
+            lOpcode = L2F;
+        } else if (aFrom == long.class && aTo == double.class) {
+            lOpcode = L2D;
+        } else if (aFrom == float.class && aTo == double.class) {
+            lOpcode = F2D;
+        } else {
+            return false;
+        }
+        if (aMap != null && lOpcode != NOP) aMap.visitInsn(lOpcode);
+        return true;
+    }
+
+    /**
+     * @return The public getter of the field, like <code>getName()</code>,
+     * <code>isActive()</code> or the accessor <code>name()</code> of a record
+     */
+    @Nullable
+    private static Method getter(Class<?> aClass, Field aField) {
+        final String lName = StringUtils.capitalize(aField.getName());
+        for (String lCandidate : new String[]{"get" + lName, "is" + lName, aField.getName()}) {
+            try {
+                final Method lMethod = aClass.getMethod(lCandidate);
+                if (lMethod.getReturnType() == aField.getType() && !Modifier.isStatic(lMethod.getModifiers()))
+                    return lMethod;
+            } catch (NoSuchMethodException aException) {
+                // Next naming convention
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The public setter of the field, like <code>setName(String)</code>
+     */
+    @Nullable
+    private static Method setter(Class<?> aClass, Field aField) {
+        try {
+            final Method lMethod = aClass.getMethod("set" + StringUtils.capitalize(aField.getName()), aField.getType());
+            return Modifier.isStatic(lMethod.getModifiers()) ? null : lMethod;
+        } catch (NoSuchMethodException aException) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks by the bytecode of the accessor, whether it does nothing else than
+     * reading or writing the field, like the accessors written by hand or by Lombok.
+     * A fluent setter may return its own instance.
+     *
+     * @param aMethod -> Getter or setter of the field
+     * @param aField  -> Field, which is accessed
+     * @return <code>true</code> if the accessor is trivial
+     */
+    private static boolean isAccessorOf(Method aMethod, Field aField) {
+        final Class<?> lDeclaring = aMethod.getDeclaringClass();
+        final List<String> lActual = instructions(lDeclaring, aMethod);
+        if (lActual == null) return false;
+
+        final Type lType = Type.getType(aField.getType());
+        final boolean lGetter = aMethod.getParameterCount() == 0;
+        // The field is addressed by the class of the accessor or by the class declaring the field
+        for (Class<?> lOwner : new Class<?>[]{lDeclaring, aField.getDeclaringClass()}) {
+            final String lField = Type.getInternalName(lOwner) + "." + aField.getName() + ":" + lType.getDescriptor();
+            final List<String> lExpected = new ArrayList<>(List.of(ALOAD + " 0"));
+            if (lGetter) {
+                lExpected.addAll(List.of(GETFIELD + " " + lField, String.valueOf(lType.getOpcode(IRETURN))));
+            } else {
+                lExpected.addAll(List.of(lType.getOpcode(ILOAD) + " 1", PUTFIELD + " " + lField));
+                lExpected.addAll(aMethod.getReturnType() == void.class
+                        ? List.of(String.valueOf(RETURN)) : List.of(ALOAD + " 0", String.valueOf(ARETURN)));
+            }
+            if (lActual.equals(lExpected)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return The instructions of the method without labels, line numbers and
+     * frames or <code>null</code>, if the bytecode of the class can not be read
+     */
+    @Nullable
+    private static List<String> instructions(Class<?> aClass, Method aMethod) {
+        final String lDescriptor = Type.getMethodDescriptor(aMethod);
+        final List<String> lInstructions = new ArrayList<>();
+        final MethodVisitor lRecorder = new MethodVisitor(SpringAsmInfo.ASM_VERSION) {
+            @Override public void visitInsn(int aOpcode) {
+                lInstructions.add(String.valueOf(aOpcode));
+            }
+
+            @Override public void visitVarInsn(int aOpcode, int aVar) {
+                lInstructions.add(aOpcode + " " + aVar);
+            }
+
+            @Override public void visitFieldInsn(int aOpcode, String aOwner, String aName, String aDesc) {
+                lInstructions.add(aOpcode + " " + aOwner + "." + aName + ":" + aDesc);
+            }
+
+            @Override public void visitIntInsn(int aOpcode, int aOperand) { other(); }
+            @Override public void visitTypeInsn(int aOpcode, String aType) { other(); }
+            @Override public void visitMethodInsn(int aOpcode, String aOwner, String aName, String aDesc, boolean aItf) { other(); }
+            @Override public void visitInvokeDynamicInsn(String aName, String aDesc, Handle aBsm, Object... aArgs) { other(); }
+            @Override public void visitJumpInsn(int aOpcode, Label aLabel) { other(); }
+            @Override public void visitLdcInsn(Object aConstant) { other(); }
+            @Override public void visitIincInsn(int aVar, int aIncrement) { other(); }
+            @Override public void visitTableSwitchInsn(int aMin, int aMax, Label aDflt, Label... aLabels) { other(); }
+            @Override public void visitLookupSwitchInsn(Label aDflt, int[] aKeys, Label[] aLabels) { other(); }
+            @Override public void visitMultiANewArrayInsn(String aDesc, int aDims) { other(); }
+
+            private void other() {
+                lInstructions.add("?");
+            }
+        };
+
+        final String lResource = "/" + Type.getInternalName(aClass) + ".class";
+        try (InputStream lCode = aClass.getResourceAsStream(lResource)) {
+            if (lCode == null) return null;
+            new ClassReader(lCode).accept(new ClassVisitor(SpringAsmInfo.ASM_VERSION) {
+                @Override public MethodVisitor visitMethod(int aAccess, String aName, String aDesc,
+                                                           String aSignature, String[] aExceptions) {
+                    return aName.equals(aMethod.getName()) && aDesc.equals(lDescriptor) ? lRecorder : null;
+                }
+            }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        } catch (IOException | RuntimeException aException) {
+            // Unreadable or too new class files are mapped reflectively
+            return null;
+        }
+        return lInstructions.isEmpty() ? null : lInstructions;
+    }
+
+    /**
+     * Generation state of a pair of classes
+     */
+    private static final class Entry {
+        final AtomicInteger calls = new AtomicInteger();
+        volatile Optional<GeneratedMapper> mapper;
+    }
+
+    /**
+     * Class loader of a generated mapper, which sees the classes of the target,
+     * of the source and of this library.
+     */
+    private static final class Loader extends ClassLoader {
+
+        private final @Nullable ClassLoader source;
+
+        Loader(@Nullable ClassLoader aTarget, @Nullable ClassLoader aSource) {
+            super(aTarget);
+            this.source = aSource;
+        }
+
+        @Override protected Class<?> findClass(String aName) throws ClassNotFoundException {
+            try {
+                return Class.forName(aName, false, source);
+            } catch (ClassNotFoundException aException) {
+                return Class.forName(aName, false, GeneratedMapper.class.getClassLoader());
+            }
+        }
+
+        Class<?> define(String aName, byte[] aCode) {
+            return defineClass(aName, aCode, 0, aCode.length);
+        }
+    }
+}
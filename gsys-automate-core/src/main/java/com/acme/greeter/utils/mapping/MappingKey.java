@@ -0,0 +1,28 @@
+package com.acme.greeter.utils.mapping;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Key of a {@link MappingPlan}, which identifies a mapping by its source class,
+ * its target class and the accessors, which are removed from the field names of
+ * the source class.
+ */
+@Value
+public class MappingKey {
+
+    /**
+     * Class of the object to be translated
+     */
+    @NonNull Class<?> source;
+    /**
+     * Class into which the object is translated
+     */
+    @NonNull Class<?> target;
+    /**
+     * Accessors of the source object in the order of the call
+     */
+    @NonNull List<String> accessors;
+}
@@ -0,0 +1,268 @@
+package com.acme.greeter.utils.mapping;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.springframework.core.ResolvableType;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compiled form of a mapping from a source class into a target class. The plan
+ * contains everything, which has to be determined by reflection: the fields of
+ * both classes, which match each other, the properties to be removed, the
+ * {@link ConstructorResolver resolved} constructor and the fields, whose values
+ * are passed to it. <br>
+ * <br>
+ * A plan is computed once per {@link MappingKey key} and shared afterwards, so a
+ * repeated mapping does not read any reflection metadata again.
+ */
+@ThreadSafe
+@Getter
+public final class MappingPlan {
+
+    /**
+     * Computed plans by their key
+     */
+    @Getter(AccessLevel.NONE)
+    private static final Map<MappingKey, MappingPlan> PLANS = new ConcurrentHashMap<>();
+
+    /**
+     * Containers, which are created for the interfaces of collections and maps, in
+     * the order of their preference
+     */
+    @Getter(AccessLevel.NONE)
+    private static final List<Class<?>> CONTAINERS = List.of(ArrayList.class, LinkedHashSet.class, TreeSet.class,
+            ArrayDeque.class, LinkedHashMap.class, TreeMap.class, ConcurrentHashMap.class);
+
+    private final @NonNull Class<?> source;
+    private final @NonNull Class<?> target;
+    /**
+     * Fields of the source class, whose values can be transferred into the field of
+     * the target class with the same name
+     */
+    private final @NonNull List<FieldPair> pairs;
+    /**
+     * Fields of the source class, whose values are passed to the {@link #constructor}
+     * in the order of its parameters
+     */
+    private final @NonNull List<Field> values;
+    /**
+     * Constructor, which takes the {@link #values} or <code>null</code>, if the
+     * instance has to be created without calling a constructor
+     */
+    private final @Nullable Constructor<?> constructor;
+    /**
+     * <code>true</code> if the target class has no content, which can be derived
+     * from the source class, so not a single field can be {@link #pairs paired}
+     */
+    private final boolean empty;
+
+    @Getter(AccessLevel.NONE)
+    private final @NonNull String[] removable;
+
+    private MappingPlan(Class<?> aSource, Class<?> aTarget, String... aAccessors) {
+        this.source = aSource;
+        this.target = aTarget;
+
+        final List<Field> lSourceFields = FieldUtils.getAllFieldsList(aSource);
+        final List<Field> lTargetFields = FieldUtils.getAllFieldsList(aTarget);
+
+        // Types of all fields of the source class by their name, hidden fields of
+        // superclasses included
+        final Map<String, List<Class<?>>> lSourceTypes = lSourceFields.stream().collect(Collectors
+                .groupingBy(Field::getName, Collectors.mapping(Field::getType, Collectors.toList())));
+        // Names of all fields of the source class without the accessors
+        final String lAccessors = StringUtils.join(aAccessors).toLowerCase();
+        final Set<String> lSourceNames = lSourceFields.stream().map(Field::getName).map(String::toLowerCase)
+                .map(name -> name.replace(lAccessors, "")).collect(Collectors.toSet());
+
+        this.removable = Stream.concat(
+                        // Fields of the target class, whose name-matching field of the source class
+                        // has a type, which can not be assigned
+                        lTargetFields.stream()
+                                .filter(field -> lSourceTypes.getOrDefault(field.getName(), List.of()).stream()
+                                        .anyMatch(type -> !field.getType().isAssignableFrom(type)))
+                                .map(Field::getName),
+                        // Fields of the target class without name-matching field in the source class
+                        lTargetFields.stream().map(Field::getName).map(String::toLowerCase)
+                                .filter(name -> !lSourceNames.contains(name)))
+                .toArray(String[]::new);
+
+        this.pairs = Collections.unmodifiableList(pairs(lSourceFields, lTargetFields));
+        // Converted and nested values are content as well, even though json could not assign them
+        this.empty = !lTargetFields.isEmpty() && pairs.isEmpty();
+
+        // Instance fields of the source class, which can be read, by their name
+        final Map<String, Field> lSources = new HashMap<>();
+        lSourceFields.stream().filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .filter(Field::trySetAccessible).forEach(field -> lSources.putIfAbsent(field.getName(), field));
+        // Fields of the source class, whose values can be transferred, in declaration order
+        final Set<String> lRemovable = new HashSet<>(Arrays.asList(removable));
+        final List<Field> lValues = lSourceFields.stream().filter(field -> !lRemovable.contains(field.getName()))
+                .filter(field -> lSources.get(field.getName()) == field).collect(Collectors.toList());
+
+        final ConstructorResolver.Resolution lResolution = ConstructorResolver.resolve(aTarget, lSources, lValues);
+        this.constructor = lResolution == null ? null : lResolution.getConstructor();
+        this.values = lResolution == null ? List.of() : List.copyOf(lResolution.getArguments());
+    }
+
+    /**
+     * Returns the plan of the mapping, which is computed on the first call only.
+     *
+     * @param aSource    -> Class of the object to be translated
+     * @param aTarget    -> Class into which the object is to be translated
+     * @param aAccessors -> Accessors of the source object, which are removed from
+     *                   its field names
+     * @return The shared plan of the mapping
+     */
+    @NonNull
+    public static MappingPlan of(@NonNull Class<?> aSource, @NonNull Class<?> aTarget, String... aAccessors) {
+        final String[] lAccessors = aAccessors == null ? new String[0] : aAccessors;
+        return PLANS.computeIfAbsent(new MappingKey(aSource, aTarget, List.of(lAccessors)),
+                key -> new MappingPlan(aSource, aTarget, lAccessors));
+    }
+
+    /**
+     * @return Properties of the source object, which are ignored during the mapping
+     */
+    @NonNull
+    public String[] getRemovable() {
+        return removable.clone();
+    }
+
+    /**
+     * Pairs every non-static field of the target class with the first field of the
+     * source class, which has the same name and whose value can be transferred.
+     */
+    private static List<FieldPair> pairs(List<Field> aSourceFields, List<Field> aTargetFields) {
+        final Map<String, Field> lSources = new HashMap<>();
+        aSourceFields.stream().filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .forEach(field -> lSources.putIfAbsent(field.getName(), field));
+
+        final List<FieldPair> lPairs = new ArrayList<>();
+        for (Field lTarget : aTargetFields) {
+            final Field lSource = lSources.get(lTarget.getName());
+            if (lSource == null || Modifier.isStatic(lTarget.getModifiers())) continue;
+
+            final FieldPair.Conversion lConversion =
+                    conversion(lSource, lTarget.getType(), ResolvableType.forField(lTarget));
+            if (lConversion != null && lSource.trySetAccessible() && lTarget.trySetAccessible()) {
+                lPairs.add(new FieldPair(lSource, lTarget, lConversion));
+            }
+        }
+        return lPairs;
+    }
+
+    /**
+     * @param aSource  -> Field, whose value is transferred
+     * @param aTarget  -> Class of the field or parameter, which takes the value
+     * @param aGeneric -> Generic type of the field or parameter, which takes the value
+     * @return The conversion of the value of the source field into the target type
+     * or <code>null</code>, if the value can not be transferred
+     */
+    @Nullable
+    static FieldPair.Conversion conversion(Field aSource, Class<?> aTarget, ResolvableType aGeneric) {
+        final FieldPair.Conversion lConversion = conversion(aSource.getType(), aTarget);
+        if (lConversion != FieldPair.Conversion.ASSIGN) return lConversion;
+
+        // The classes say nothing about the type arguments, a List<Item> is no List<ItemDto>
+        final ResolvableType lSource = ResolvableType.forField(aSource);
+        if (!lSource.hasUnresolvableGenerics() && !aGeneric.isAssignableFrom(lSource)) {
+            return elements(lSource, aGeneric) != null ? FieldPair.Conversion.ELEMENTS : null;
+        }
+        // Mutable values are copied, so the mapped object shares nothing with its source
+        return aTarget.isPrimitive() || (Modifier.isFinal(aTarget.getModifiers()) || aTarget.isEnum())
+                && DeepCopier.isImmutable(aTarget) ? FieldPair.Conversion.ASSIGN : FieldPair.Conversion.COPY;
+    }
+
+    /**
+     * @param aSource -> Generic type of the source collection or map
+     * @param aTarget -> Generic type of the target collection or map
+     * @return The classes, into which the elements of a collection or the keys and
+     * values of a map are mapped, or <code>null</code>, if the elements can not be
+     * mapped or the target can not be created
+     */
+    @Nullable
+    static Class<?>[] elements(ResolvableType aSource, ResolvableType aTarget) {
+        final Class<?> lClass = aTarget.resolve();
+        if (lClass == null || container(lClass) == null) return null;
+
+        final ResolvableType lSource, lTarget;
+        if (Map.class.isAssignableFrom(lClass)) {
+            lSource = aSource.asMap();
+            lTarget = aTarget.asMap();
+        } else if (Collection.class.isAssignableFrom(lClass)) {
+            lSource = aSource.asCollection();
+            lTarget = aTarget.asCollection();
+        } else {
+            return null;
+        }
+        final Class<?>[] lElements = lTarget.resolveGenerics();
+        for (int i = 0; i < lElements.length; i++) {
+            if (lElements[i] == null) return null;
+            // Elements are either copied, if they are assignable, or mapped as nested objects
+            final ResolvableType lFrom = lSource.getGeneric(i);
+            if (!lTarget.getGeneric(i).isAssignableFrom(lFrom)
+                    && conversion(lFrom.resolve(Object.class), lElements[i]) != FieldPair.Conversion.NESTED) return null;
+        }
+        return lElements;
+    }
+
+    /**
+     * @param aType -> Type of a collection or a map
+     * @return The class, which is created for the type, either the type itself, if
+     * it has a public no-argument constructor, or a container of the JDK, which
+     * implements the type, or <code>null</code>, if there is none
+     */
+    @Nullable
+    static Class<?> container(Class<?> aType) {
+        if (isInstantiable(aType) && Arrays.stream(aType.getConstructors())
+                .anyMatch(constructor -> constructor.getParameterCount() == 0)) return aType;
+        return CONTAINERS.stream().filter(aType::isAssignableFrom).findFirst().orElse(null);
+    }
+
+    /**
+     * @return The conversion of a value of the source class into the target class
+     * or <code>null</code>, if the value can not be transferred
+     */
+    @Nullable
+    static FieldPair.Conversion conversion(Class<?> aSource, Class<?> aTarget) {
+        if (aTarget.isAssignableFrom(aSource)) return FieldPair.Conversion.ASSIGN;
+        if (aSource.isPrimitive() || aTarget.isPrimitive()) {
+            try { // Boxing, unboxing and widening conversions of the method handles
+                MethodHandles.identity(aSource).asType(MethodType.methodType(aTarget, aSource));
+                return FieldPair.Conversion.CONVERT;
+            } catch (WrongMethodTypeException aException) {
+                return null;
+            }
+        }
+        return isNestable(aSource) && isNestable(aTarget) && isInstantiable(aTarget)
+                ? FieldPair.Conversion.NESTED : null;
+    }
+
+    /**
+     * @return <code>true</code> if the class is an own object, whose fields can be
+     * mapped, and no array, enum or class of the JDK
+     */
+    private static boolean isNestable(Class<?> aClass) {
+        return !aClass.isArray() && !aClass.isEnum() && !aClass.isPrimitive() && aClass.getClassLoader() != null;
+    }
+
+    private static boolean isInstantiable(Class<?> aClass) {
+        return !aClass.isInterface() && !Modifier.isAbstract(aClass.getModifiers());
+    }
+}
@@ -0,0 +1,113 @@
+package com.acme.greeter.utils;
+
+import com.acme.greeter.utils.exceptions.ConversionFailedException;
+import com.acme.greeter.utils.mapping.MappingPlan;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ConstructorResolverTest {
+
+    public static class Person {
+        String first = " Ada ";
+        String last = " Lovelace ";
+    }
+
+    /** Target, whose constructor matches its final fields in declaration order */
+    public static class Trimmed {
+        private final String first;
+        private final String last;
+
+        Trimmed(String first, String last) {
+            this.first = first.trim();
+            this.last = last.trim();
+        }
+    }
+
+    public static class Left {
+        Right right;
+    }
+
+    public static class Right {
+        Left left;
+    }
+
+    /** Target, whose constructor takes the nested object */
+    public static class LeftDto {
+        private final RightDto right;
+
+        LeftDto(RightDto right) {
+            this.right = right;
+        }
+    }
+
+    public static class RightDto {
+        LeftDto left;
+    }
+
+    @Test public void cycles_through_constructor_arguments_are_rejected() {
+        final Left lLeft = new Left();
+        lLeft.right = new Right();
+        assert MapperUtils.mapTo(lLeft, LeftDto.class).right != null;
+
+        lLeft.right.left = lLeft;
+        try {
+            MapperUtils.mapTo(lLeft, LeftDto.class);
+            assert false : "a cycle through a constructor argument must not be mapped";
+        } catch (ConversionFailedException aException) {
+            assert aException.getCause() instanceof IllegalStateException : aException.getCause();
+        }
+    }
+
+    @Test public void constructors_of_final_fields_are_called() {
+        final MappingPlan lPlan = MappingPlan.of(Person.class, Trimmed.class);
+        assert lPlan.getConstructor() != null && lPlan.getConstructor().getParameterCount() == 2;
+
+        // The trimmed values prove the constructor was called and its fields were not overwritten
+        final Trimmed lTrimmed = MapperUtils.mapTo(new Person(), Trimmed.class);
+        assert "Ada".equals(lTrimmed.first) && "Lovelace".equals(lTrimmed.last);
+    }
+
+    @Test public void parameters_are_bound_by_their_names() throws Exception {
+        // Both parameters have the same type in the reverse order of the fields
+        final Class<?> lNamed = TestSources.compile("Named", "public class Named {\n"
+                + "    private final String first;\n"
+                + "    private final String last;\n"
+                + "    public Named(String last, String first) {\n"
+                + "        this.first = first.trim();\n"
+                + "        this.last = last.trim();\n"
+                + "    }\n"
+                + "}", "-parameters");
+
+        assert names(MappingPlan.of(Person.class, lNamed).getValues()).equals(List.of("last", "first"));
+        final Object lTarget = MapperUtils.mapTo(new Person(), lNamed);
+        assert "Ada".equals(value(lTarget, "first")) && "Lovelace".equals(value(lTarget, "last"));
+    }
+
+    @Test @EnabledForJreRange(min = JRE.JAVA_16)
+    public void records_are_created_by_their_canonical_constructor() throws Exception {
+        final Class<?> lEntry = TestSources.compile("Entry",
+                "public record Entry(String last, String first) {}");
+
+        final MappingPlan lPlan = MappingPlan.of(Person.class, lEntry);
+        assert lPlan.getConstructor() != null && names(lPlan.getValues()).equals(List.of("last", "first"));
+
+        final Object lTarget = MapperUtils.mapTo(new Person(), lEntry);
+        assert " Ada ".equals(lEntry.getMethod("first").invoke(lTarget));
+        assert " Lovelace ".equals(lEntry.getMethod("last").invoke(lTarget));
+    }
+
+    private static List<String> names(List<Field> aFields) {
+        return aFields.stream().map(Field::getName).collect(Collectors.toList());
+    }
+
+    private static Object value(Object aObject, String aName) throws ReflectiveOperationException {
+        final Field lField = aObject.getClass().getDeclaredField(aName);
+        lField.setAccessible(true);
+        return lField.get(aObject);
+    }
+}
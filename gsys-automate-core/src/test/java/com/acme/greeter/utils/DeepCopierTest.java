@@ -0,0 +1,143 @@
+package com.acme.greeter.utils;
+
+import com.acme.greeter.utils.mapping.DeepCopier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import java.lang.reflect.Method;
+import java.time.DayOfWeek;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DeepCopierTest {
+
+    public static class Node {
+        String name;
+        Node next;
+        final List<Node> children = new ArrayList<>();
+
+        Node(String aName) {
+            name = aName;
+        }
+    }
+
+    public static class Outer {
+        final List<Item> items = new ArrayList<>();
+
+        class Item {
+            Outer owner() {
+                return Outer.this;
+            }
+        }
+    }
+
+    public static class Containers {
+        List<String> fixed = Arrays.asList("b", "a");
+        List<String> frozen = Collections.unmodifiableList(new ArrayList<>(List.of("x")));
+        Map<String, Integer> immutable = Map.of("one", 1);
+        SortedSet<String> view = Collections.unmodifiableSortedSet(new TreeSet<>(Set.of("a", "b")));
+        TreeSet<String> reversed = new TreeSet<>(Comparator.reverseOrder());
+        EnumSet<DayOfWeek> days = EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+        EnumMap<DayOfWeek, Node> plans = new EnumMap<>(DayOfWeek.class);
+        ArrayBlockingQueue<String> queue = new ArrayBlockingQueue<>(4);
+        StringBuilder text = new StringBuilder("text");
+        AtomicInteger counter = new AtomicInteger(5);
+        int[] numbers = {1, 2, 3};
+        Node[] nodes;
+    }
+
+    @Test public void cycles_and_shared_references_are_preserved() {
+        final Node lFirst = new Node("first"), lSecond = new Node("second");
+        lFirst.next = lSecond;
+        lSecond.next = lFirst;
+        lFirst.children.addAll(List.of(lSecond, lSecond));
+
+        final Node lCopy = DeepCopier.copy(lFirst);
+        assert lCopy != lFirst && lCopy.next != lSecond;
+        assert lCopy.next.next == lCopy && "second".equals(lCopy.next.name);
+        assert lCopy.children.get(0) == lCopy.next && lCopy.children.get(1) == lCopy.next;
+    }
+
+    @Test public void inner_classes_refer_to_the_copy_of_their_outer_instance() {
+        final Outer lOriginal = new Outer();
+        lOriginal.items.add(lOriginal.new Item());
+
+        final Outer lCopy = DeepCopier.copy(lOriginal);
+        assert lCopy.items.get(0) != lOriginal.items.get(0) && lCopy.items.get(0).owner() == lCopy;
+        assert ObjectUtils.deepCopyObject(lOriginal).items.get(0).owner() != lOriginal;
+    }
+
+    @Test public void arrays_are_copied_with_their_elements() {
+        final Containers lOriginal = new Containers();
+        final Node lShared = new Node("shared");
+        lOriginal.nodes = new Node[]{lShared, lShared, null};
+
+        final Containers lCopy = DeepCopier.copy(lOriginal);
+        assert lCopy.numbers != lOriginal.numbers && Arrays.equals(lCopy.numbers, lOriginal.numbers);
+        assert lCopy.nodes != lOriginal.nodes && lCopy.nodes[0] != lShared;
+        assert lCopy.nodes[0] == lCopy.nodes[1] && lCopy.nodes[2] == null;
+    }
+
+    @Test public void sorted_and_enum_containers_keep_their_class() {
+        final Containers lOriginal = new Containers();
+        lOriginal.reversed.addAll(List.of("a", "c", "b"));
+        lOriginal.plans.put(DayOfWeek.MONDAY, new Node("plan"));
+
+        final Containers lCopy = DeepCopier.copy(lOriginal);
+        assert lCopy.reversed != lOriginal.reversed && lCopy.reversed.comparator() == lOriginal.reversed.comparator();
+        assert List.copyOf(lCopy.reversed).equals(List.of("c", "b", "a"));
+        assert lCopy.days != lOriginal.days && lCopy.days.equals(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+        assert lCopy.plans != lOriginal.plans && lCopy.plans.get(DayOfWeek.MONDAY) != lOriginal.plans.get(DayOfWeek.MONDAY);
+
+        // Enum sets are no public class, the copy keeps their class all the same
+        final EnumSet<DayOfWeek> lDays = ObjectUtils.deepCopyObject(lOriginal.days);
+        assert lDays != lOriginal.days && lDays.getClass() == lOriginal.days.getClass();
+    }
+
+    @Test public void containers_of_the_jdk_are_copied_modifiable() {
+        final Containers lCopy = DeepCopier.copy(new Containers());
+
+        assert lCopy.fixed instanceof ArrayList && lCopy.fixed.equals(List.of("b", "a"));
+        assert lCopy.frozen instanceof ArrayList && lCopy.immutable instanceof LinkedHashMap;
+        lCopy.fixed.add("c");
+        lCopy.frozen.add("y");
+        lCopy.immutable.put("two", 2);
+        assert lCopy.view instanceof TreeSet && lCopy.view.add("c");
+
+        final List<String> lList = ObjectUtils.deepCopyObject(Arrays.asList("a", "b"));
+        assert lList instanceof ArrayList && lList.add("c");
+    }
+
+    @Test public void bounded_queues_keep_their_capacity() {
+        final Containers lOriginal = new Containers();
+        lOriginal.queue.add("head");
+
+        final Containers lCopy = DeepCopier.copy(lOriginal);
+        assert lCopy.queue != lOriginal.queue && "head".equals(lCopy.queue.peek());
+        assert lCopy.queue.remainingCapacity() == 3;
+    }
+
+    @Test public void mutable_values_of_the_jdk_are_not_shared() {
+        final Containers lOriginal = new Containers();
+        final Containers lCopy = DeepCopier.copy(lOriginal);
+        lOriginal.text.append("-changed");
+        lOriginal.counter.incrementAndGet();
+
+        assert "text".contentEquals(lCopy.text) && lCopy.counter.get() == 5;
+    }
+
+    @Test @EnabledForJreRange(min = JRE.JAVA_16)
+    public void records_are_created_by_their_canonical_constructor() throws Exception {
+        final Class<?> lPoint = TestSources.compile("Point",
+                "public record Point(int x, java.util.List<String> tags) {}");
+        final Object lOriginal = lPoint.getConstructor(int.class, List.class)
+                .newInstance(3, new ArrayList<>(List.of("tag")));
+
+        final Object lCopy = DeepCopier.copy(lOriginal);
+        final Method lTags = lPoint.getMethod("tags");
+        assert lCopy != lOriginal && lCopy.equals(lOriginal);
+        assert lTags.invoke(lCopy) != lTags.invoke(lOriginal);
+    }
+}
@@ -0,0 +1,109 @@
+package com.acme.greeter.utils;
+
+import com.acme.greeter.utils.mapping.FieldMapper;
+import com.acme.greeter.utils.mapping.FieldPair;
+import com.acme.greeter.utils.mapping.MappingPlan;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class FieldMapperTest {
+
+    public static class Source {
+        int boxed = 1;
+        Integer unboxed = 2;
+        Integer missing;
+        short widened = 3;
+        char character = 'c';
+        Address address = new Address("street");
+        Address second;
+        Source parent;
+        List<Address> addresses = new ArrayList<>();
+        Map<String, Address> named = new LinkedHashMap<>();
+        List<String> tags = new ArrayList<>(List.of("tag"));
+        int[] numbers = {1, 2};
+    }
+
+    public static class Target {
+        Integer boxed;
+        long unboxed;
+        int missing = -1;
+        double widened;
+        int character;
+        Location address;
+        Location second;
+        Target parent;
+        List<Location> addresses;
+        Map<String, Location> named;
+        List<String> tags;
+        int[] numbers;
+    }
+
+    public static class Address {
+        String street;
+
+        Address(String aStreet) {
+            street = aStreet;
+        }
+    }
+
+    public static class Location {
+        String street;
+    }
+
+    @Test public void primitives_are_boxed_unboxed_and_widened() {
+        final Target lTarget = (Target) FieldMapper.of(Source.class, Target.class).map(new Source());
+
+        assert lTarget.boxed == 1 && lTarget.unboxed == 2L && lTarget.widened == 3.0 && lTarget.character == 'c';
+        // An unboxed null keeps the default value of the target
+        assert lTarget.missing == -1;
+    }
+
+    @Test public void nested_objects_are_mapped_into_the_target_type() {
+        final Source lSource = new Source();
+        lSource.second = lSource.address;
+        lSource.parent = lSource;
+
+        final Target lTarget = MapperUtils.mapTo(lSource, Target.class);
+        assert lTarget.address != null && "street".equals(lTarget.address.street);
+        // Shared and cyclic references are mapped once
+        assert lTarget.second == lTarget.address && lTarget.parent == lTarget;
+    }
+
+    @Test public void elements_of_collections_and_maps_are_mapped_into_the_type_arguments() {
+        final Source lSource = new Source();
+        lSource.addresses.addAll(Arrays.asList(lSource.address, new Address("other"), null));
+        lSource.named.put("home", lSource.address);
+
+        final Target lTarget = MapperUtils.mapTo(lSource, Target.class);
+        assert lTarget.addresses.get(0) == lTarget.address && "other".equals(lTarget.addresses.get(1).street);
+        assert lTarget.addresses.size() == 3 && lTarget.addresses.get(2) == null;
+        assert lTarget.named.get("home") == lTarget.address;
+    }
+
+    @Test public void mutable_assignable_values_are_copied() {
+        final Source lSource = new Source();
+        final Target lTarget = (Target) FieldMapper.of(Source.class, Target.class).map(lSource);
+
+        assert lTarget.tags != lSource.tags && lTarget.tags.equals(List.of("tag"));
+        assert lTarget.numbers != lSource.numbers && Arrays.equals(lTarget.numbers, new int[]{1, 2});
+
+        final Map<String, FieldPair.Conversion> lConversions = MappingPlan.of(Source.class, Target.class).getPairs()
+                .stream().collect(Collectors.toMap(pair -> pair.getTarget().getName(), FieldPair::getConversion));
+        assert lConversions.get("addresses") == FieldPair.Conversion.ELEMENTS
+                && lConversions.get("named") == FieldPair.Conversion.ELEMENTS;
+        assert lConversions.get("tags") == FieldPair.Conversion.COPY && lConversions.get("numbers") == FieldPair.Conversion.COPY;
+        assert lConversions.get("boxed") == FieldPair.Conversion.CONVERT;
+    }
+
+    @Test public void mappers_are_shared() {
+        final FieldMapper lMapper = FieldMapper.of(Source.class, Target.class);
+        assert lMapper == FieldMapper.of(Source.class, Target.class) && lMapper.isSupported();
+        assert lMapper.map(new Source()) != lMapper.map(new Source());
+    }
+}
@@ -0,0 +1,90 @@
+package com.acme.greeter.utils;
+
+import com.acme.greeter.utils.mapping.FieldMapper;
+import com.acme.greeter.utils.mapping.GeneratedMapper;
+import com.acme.greeter.utils.mapping.MapperGenerator;
+import com.acme.greeter.utils.mapping.MappingPlan;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparison of the mapping engines of {@link MapperUtils#mapTo(Object, Class, String...)}:
+ * the json round-trip, the {@link FieldMapper reflective plan} and the
+ * {@link MapperGenerator generated mapper}. Run by {@link #main(String[])} from
+ * the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MapperBenchmark {
+
+    public static class Source {
+        private String name = "fixture";
+        private int age = 42;
+        private Integer count = 7;
+        private long id = 4711L;
+        private boolean active = true;
+
+        public String getName() { return name; }
+        public int getAge() { return age; }
+        public Integer getCount() { return count; }
+        public long getId() { return id; }
+        public boolean isActive() { return active; }
+    }
+
+    public static class Target {
+        private String name;
+        private Integer age;
+        private long count;
+        private long id;
+        private boolean active;
+
+        public void setName(String aName) { name = aName; }
+        public void setAge(Integer aAge) { age = aAge; }
+        public void setCount(long aCount) { count = aCount; }
+        public void setId(long aId) { id = aId; }
+        public void setActive(boolean aActive) { active = aActive; }
+    }
+
+    private final Source source = new Source();
+    private MappingPlan plan;
+    private FieldMapper reflective;
+    private GeneratedMapper generated;
+
+    @Setup
+    public void setUp() {
+        plan = MappingPlan.of(Source.class, Target.class);
+        reflective = FieldMapper.of(Source.class, Target.class);
+        generated = Objects.requireNonNull(MapperGenerator.generate(plan), "no mapper generated");
+    }
+
+    /** The json round-trip, which has been the only engine of mapTo before */
+    @Benchmark public Object json() {
+        return MapperUtils.instantiate(source, Target.class, plan.getRemovable());
+    }
+
+    @Benchmark public Object reflective() {
+        return reflective.map(source);
+    }
+
+    @Benchmark public Object generated() {
+        return generated.map(source);
+    }
+
+    /** The entry point with its default engine, the cached plan lookup included */
+    @Benchmark public Object mapTo() {
+        return MapperUtils.mapTo(source, Target.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MapperBenchmark.class.getSimpleName()).build()).run();
+    }
+}
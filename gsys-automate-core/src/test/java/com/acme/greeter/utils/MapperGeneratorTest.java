@@ -0,0 +1,112 @@
+package com.acme.greeter.utils;
+
+import com.acme.greeter.utils.mapping.FieldMapper;
+import com.acme.greeter.utils.mapping.GeneratedMapper;
+import com.acme.greeter.utils.mapping.MapperGenerator;
+import com.acme.greeter.utils.mapping.MappingPlan;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Parity of the {@link MapperGenerator generated mappers} and the reflective
+ * {@link FieldMapper}, so a mapping gives the same result before and after the
+ * generation threshold has been crossed.
+ */
+public class MapperGeneratorTest {
+
+    public static class Source {
+        private String name = " fixture ";
+        private int age = 42;
+        private Integer count = 7;
+        private Integer missing;
+        private short level = 3;
+
+        public String getName() { return name; }
+        public int getAge() { return age; }
+        public Integer getCount() { return count; }
+        public Integer getMissing() { return missing; }
+        public short getLevel() { return level; }
+    }
+
+    public static class Target {
+        private String name;
+        private Integer age;
+        private long count;
+        private int missing = -1;
+        private double level;
+
+        public void setName(String aName) { name = aName; }
+        public void setAge(Integer aAge) { age = aAge; }
+        public Target setCount(long aCount) { count = aCount; return this; }
+        public void setMissing(int aMissing) { missing = aMissing; }
+        public void setLevel(double aLevel) { level = aLevel; }
+    }
+
+    /** Target, whose setter does more than writing its field */
+    public static class Trimming {
+        private String name;
+
+        public String getName() { return name; }
+        public void setName(String aName) { name = aName.trim(); }
+    }
+
+    /** Target, which is created by its constructor with arguments */
+    public static class Constructed {
+        private final String name;
+
+        public Constructed() { this("default"); }
+        public Constructed(String name) { this.name = name; }
+
+        public String getName() { return name; }
+    }
+
+    @AfterEach public void disable() {
+        MapperUtils.setGenerationThreshold(-1);
+    }
+
+    @Test public void generated_and_reflective_mappings_are_equal() {
+        final MappingPlan lPlan = MappingPlan.of(Source.class, Target.class);
+        final GeneratedMapper lGenerated = MapperGenerator.generate(lPlan);
+        assert lGenerated != null;
+
+        final Target lReflective = (Target) FieldMapper.of(Source.class, Target.class).map(new Source());
+        final Target lDirect = (Target) lGenerated.map(new Source());
+        for (Target lTarget : new Target[]{lReflective, lDirect}) {
+            assert " fixture ".equals(lTarget.name) && lTarget.age == 42 && lTarget.count == 7L;
+            // An unboxed null keeps the default value of the target
+            assert lTarget.missing == -1 && lTarget.level == 3.0;
+        }
+    }
+
+    @Test public void non_trivial_accessors_are_not_generated() {
+        assert MapperGenerator.generate(MappingPlan.of(Source.class, Trimming.class)) == null;
+
+        // The result stays the same across the threshold
+        MapperUtils.setGenerationThreshold(1);
+        for (int i = 0; i < 4; i++) {
+            assert " fixture ".equals(MapperUtils.mapTo(new Source(), Trimming.class).getName());
+        }
+    }
+
+    @Test public void only_the_no_argument_constructor_is_generated() {
+        // The plan binds the name to the constructor, which the generated mapper would skip
+        assert MappingPlan.of(Source.class, Constructed.class).getConstructor().getParameterCount() == 1;
+        assert MapperGenerator.generate(MappingPlan.of(Source.class, Constructed.class)) == null;
+        assert " fixture ".equals(MapperUtils.mapTo(new Source(), Constructed.class).getName());
+    }
+
+    @Test public void mapper_is_generated_after_the_threshold() {
+        final class Local {
+            // Local classes are not public, so they are never generated
+        }
+        assert MapperGenerator.of(Source.class, Local.class, 0) == null;
+
+        MapperUtils.setGenerationThreshold(2);
+        for (int i = 0; i < 5; i++) {
+            final Target lTarget = MapperUtils.mapTo(new Source(), Target.class);
+            assert lTarget.count == 7L && lTarget.missing == -1;
+        }
+        final GeneratedMapper lGenerated = MapperGenerator.of(Source.class, Target.class, 2);
+        assert lGenerated != null && lGenerated == MapperGenerator.of(Source.class, Target.class, 2);
+    }
+}
@@ -0,0 +1,65 @@
+package com.acme.greeter.utils;
+
+import com.acme.greeter.utils.exceptions.ConversionFailedException;
+import com.acme.greeter.utils.mapping.FieldPair;
+import com.acme.greeter.utils.mapping.MappingPlan;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class MappingPlanTest {
+
+    public static class Source {
+        String name = "fixture";
+        int age = 42;
+        String label = "label";
+        static String shared = "static";
+    }
+
+    public static class Target {
+        String name;
+        long age;
+        Integer label;
+        String unknown;
+    }
+
+    public static class Unrelated {
+        String other;
+    }
+
+    @Test public void plans_are_computed_once_per_key() {
+        final MappingPlan lPlan = MappingPlan.of(Source.class, Target.class);
+        assert lPlan == MappingPlan.of(Source.class, Target.class);
+        assert lPlan == MappingPlan.of(Source.class, Target.class, (String[]) null);
+        assert lPlan != MappingPlan.of(Source.class, Target.class, "get");
+    }
+
+    @Test public void fields_are_paired_by_name_and_type() {
+        final MappingPlan lPlan = MappingPlan.of(Source.class, Target.class);
+        final List<String> lPairs = lPlan.getPairs().stream()
+                .map(pair -> pair.getTarget().getName() + ":" + pair.getConversion()).collect(Collectors.toList());
+
+        assert lPairs.equals(List.of("name:" + FieldPair.Conversion.ASSIGN, "age:" + FieldPair.Conversion.CONVERT)) : lPairs;
+        // The label can not be assigned and the unknown field has no source
+        assert Arrays.asList(lPlan.getRemovable()).containsAll(List.of("label", "unknown"));
+        assert !lPlan.isEmpty();
+    }
+
+    @Test public void empty_plans_are_rejected() {
+        assert MappingPlan.of(Source.class, Unrelated.class).isEmpty();
+        try {
+            MapperUtils.mapTo(new Source(), Unrelated.class);
+            assert false : "a target without matching content must not be mapped";
+        } catch (ConversionFailedException aException) {
+            assert aException.getCause() instanceof ClassCastException;
+        }
+    }
+
+    @Test public void same_class_is_copied() {
+        final Source lSource = new Source();
+        final Source lCopy = MapperUtils.mapTo(lSource, Source.class);
+        assert lCopy != lSource && "fixture".equals(lCopy.name) && lCopy.age == 42;
+    }
+}
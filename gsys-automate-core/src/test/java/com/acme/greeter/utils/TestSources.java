@@ -0,0 +1,50 @@
+package com.acme.greeter.utils;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compiles fixtures at test time, whose language level or compiler options differ
+ * from those of the test sources, like records, which the release of this module
+ * does not know, or constructors compiled with and without <code>-parameters</code>.
+ */
+final class TestSources {
+
+    private TestSources() {
+        //None content...
+    }
+
+    /**
+     * @param aName    -> Simple name of the public class, which is declared in the default package
+     * @param aSource  -> Source code of the class
+     * @param aOptions -> Options of the compiler, like <code>-parameters</code>
+     * @return The compiled class, which is loaded by its own class loader
+     */
+    static Class<?> compile(String aName, String aSource, String... aOptions) throws IOException, ClassNotFoundException {
+        final JavaCompiler lCompiler = ToolProvider.getSystemJavaCompiler();
+        if (lCompiler == null) throw new IllegalStateException("Tests have to run on a JDK");
+
+        final Path lDirectory = Files.createTempDirectory("gsys-fixture");
+        final Path lFile = Files.writeString(lDirectory.resolve(aName + ".java"), aSource);
+        final List<String> lArguments = new ArrayList<>(Arrays.asList(aOptions));
+        lArguments.addAll(List.of("-d", lDirectory.toString(), lFile.toString()));
+
+        final ByteArrayOutputStream lErrors = new ByteArrayOutputStream();
+        if (lCompiler.run(null, null, lErrors, lArguments.toArray(new String[0])) != 0) {
+            throw new IllegalStateException(lErrors.toString(StandardCharsets.UTF_8));
+        }
+        final URLClassLoader lLoader = new URLClassLoader(new URL[]{lDirectory.toUri().toURL()},
+                TestSources.class.getClassLoader());
+        return Class.forName(aName, true, lLoader);
+    }
+}
@@ -0,0 +1,51 @@
+package org.system.factory.launcher.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.WebDriver;
+import org.system.factory.launcher.browser.resolve.DriverConstructors;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Per-instance overhead of the browser constructor call: the former {@link Class#forName(String)}
+ * lookup with a reflective constructor call against the cached {@link DriverConstructors constructor}
+ * and an own registered factory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstructorBenchmark {
+
+    private final String browserClass = StubWebDriver.class.getName();
+    private Supplier<WebDriver> constructor;
+    private Supplier<WebDriver> factory;
+
+    @Setup public void setup() throws ReflectiveOperationException {
+        constructor = DriverConstructors.constructor(browserClass);
+        factory = StubWebDriver::new;
+    }
+
+    /** Instantiation before: lookup of class and constructor for every driver. */
+    @Benchmark public WebDriver reflective() throws ReflectiveOperationException {
+        return (WebDriver) Class.forName(browserClass).getConstructor().newInstance();
+    }
+
+    /** Instantiation after: constructor, which was looked up once. */
+    @Benchmark public WebDriver methodHandle() throws ReflectiveOperationException {
+        return DriverConstructors.constructor(browserClass).get();
+    }
+
+    /** Instantiation after: a held constructor without the cache lookup. */
+    @Benchmark public WebDriver methodHandleHeld() {
+        return constructor.get();
+    }
+
+    /** Instantiation via an own factory, like a registered stub. */
+    @Benchmark public WebDriver registeredFactory() {
+        return factory.get();
+    }
+}
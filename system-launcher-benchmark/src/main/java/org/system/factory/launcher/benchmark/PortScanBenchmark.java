@@ -0,0 +1,60 @@
+package org.system.factory.launcher.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.system.factory.launcher.utils.PortAllocator;
+import org.system.factory.launcher.utils.PortScanner;
+import org.system.factory.launcher.utils.PortUtils;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Port scanning of {@link PortUtils}: the parallel scan of a range against a sequential
+ * check of every port, the search for the first free ports and the lease of a port.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PortScanBenchmark {
+
+    private static final int FIRST_PORT = 40_000;
+
+    /** Count of ports of the scanned range. */
+    @Param({"64", "1024"})
+    public int range;
+
+    private PortAllocator allocator;
+
+    @Setup public void setup() {
+        allocator = new PortAllocator(FIRST_PORT, FIRST_PORT + range - 1);
+    }
+
+    /** Sequential check of every port, as before the parallel scan. */
+    @Benchmark public BitSet sequential() {
+        final BitSet free = new BitSet();
+        for (int port = FIRST_PORT; port < FIRST_PORT + range; port++) {
+            if (PortUtils.isPortAvailable(port)) free.set(port);
+        }
+        return free;
+    }
+
+    /** Parallel scan with the shared scanner. */
+    @Benchmark public BitSet parallel() {
+        return PortUtils.availablePortSet(FIRST_PORT, FIRST_PORT + range - 1);
+    }
+
+    /** Search for the first four free TCP ports, which stops after the first block. */
+    @Benchmark public int[] firstAvailable() {
+        return PortScanner.shared().firstAvailable(FIRST_PORT, FIRST_PORT + range - 1, 4);
+    }
+
+    /** Lease of a bound port and its release. */
+    @Benchmark public int lease() throws Exception {
+        try (PortAllocator.PortLease lease = allocator.lease()) {
+            return lease.handoff();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.system.factory.launcher.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.WebDriver;
+import org.system.factory.launcher.browser.GDriverFactory;
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+import org.system.factory.launcher.browser.provision.DriverProvisioner;
+import org.system.factory.launcher.browser.resolve.DriverConstructors;
+import org.system.factory.launcher.browser.teardown.TeardownReport;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Provisioning path of {@link GDriverFactory} with a registered {@link StubWebDriver stub}:
+ * creation of a factory with a single instance and the scaling of
+ * {@link GDriverFactory#createDriverInstances(int)} over the count of instances. The stub can
+ * simulate the startup latency of a browser, so the parallelism of the provisioning is visible.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dorg.slf4j.simpleLogger.defaultLogLevel=warn")
+public class ProvisioningBenchmark {
+
+    private static final DriverInstance INSTANCE = DriverInstance.CHROME;
+
+    /** Simulated startup latency of a single browser in microseconds. */
+    @Param({"0", "1000"})
+    public long startupMicros;
+
+    private final Random random = new Random();
+
+    /** Count of instances of a provisioning. */
+    @State(Scope.Benchmark)
+    public static class Provisioning {
+        @Param({"1", "4", "16", "64"})
+        public int count;
+    }
+
+    @Setup public void setup() {
+        final long startup = TimeUnit.MICROSECONDS.toNanos(startupMicros);
+        DriverConstructors.register(INSTANCE, () -> {
+            if (startup > 0) LockSupport.parkNanos(startup);
+            return new StubWebDriver();
+        }, false);
+    }
+
+    @TearDown public void tearDown() {
+        DriverConstructors.unregister(INSTANCE);
+    }
+
+    /** A factory, which creates and tears down a single instance. */
+    @Benchmark public TeardownReport factoryCreation() throws Exception {
+        final GDriverFactory factory = new GDriverFactory(INSTANCE, random.nextLong(), true);
+        factory.createDriverInstance();
+        return factory.teardown();
+    }
+
+    /** Parallel creation of all instances on the bounded provisioning executor. */
+    @Benchmark public TeardownReport createDriverInstances(Provisioning provisioning) throws Exception {
+        final GDriverFactory factory = new GDriverFactory(INSTANCE, random.nextLong(), true);
+        final List<WebDriver> drivers = factory.createDriverInstances(provisioning.count);
+        if (drivers.size() != provisioning.count)
+            throw new IllegalStateException("Missing instances: " + drivers.size());
+        return factory.teardown();
+    }
+
+    /** Sequential creation of all instances as the baseline of the parallel creation. */
+    @Benchmark public TeardownReport createDriverInstancesSequential(Provisioning provisioning) throws Exception {
+        final GDriverFactory factory = new GDriverFactory(INSTANCE, random.nextLong(), true);
+        factory.provisionDriverInstances(provisioning.count, 1, DriverProvisioner.DEFAULT_TIMEOUT).getOrThrow();
+        return factory.teardown();
+    }
+}
@@ -0,0 +1,59 @@
+package org.system.factory.launcher.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.WebDriver;
+import org.system.factory.launcher.browser.plattform.SessionRegistry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contention on the {@link SessionRegistry}, which replaced the shared session queue of
+ * {@code ExplorerValueMapper}: register and deregister of sessions by several threads, which
+ * either share one factory or use a factory each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class RegistryBenchmark {
+
+    private static final long SHARED_FACTORY = 1L;
+
+    private final SessionRegistry registry = new SessionRegistry();
+    private final AtomicLong factories = new AtomicLong(SHARED_FACTORY);
+
+    /** Session and factory of a single benchmark thread. */
+    @State(Scope.Thread)
+    public static class Session {
+        private final WebDriver driver = new StubWebDriver();
+        private long factory;
+
+        @Setup public void setup(RegistryBenchmark benchmark) {
+            factory = benchmark.factories.incrementAndGet();
+        }
+    }
+
+    /** All threads register their sessions under the same factory. */
+    @Benchmark public boolean sharedFactory(Session session) {
+        registry.register(SHARED_FACTORY, session.driver);
+        return registry.deregister(SHARED_FACTORY, session.driver);
+    }
+
+    /** Every thread registers its sessions under an own factory. */
+    @Benchmark public boolean ownFactory(Session session) {
+        registry.register(session.factory, session.driver);
+        return registry.deregister(session.factory, session.driver);
+    }
+
+    /** Count of all sessions while the other threads register and deregister. */
+    @Benchmark public int size(Session session) {
+        registry.register(session.factory, session.driver);
+        final int size = registry.size();
+        registry.deregister(session.factory, session.driver);
+        return size;
+    }
+}
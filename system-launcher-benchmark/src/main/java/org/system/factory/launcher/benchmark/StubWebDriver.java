@@ -0,0 +1,92 @@
+package org.system.factory.launcher.benchmark;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Local, in-process web-driver without a browser, so that the provisioning
+ * path can be measured on headless machines without any installed browser.
+ * {@link #manage()}, {@link #navigate()} and {@link #switchTo()} return no-op stubs, so that
+ * resets and other session calls of the pool can be measured as well.
+ */
+public class StubWebDriver implements WebDriver {
+
+    private static final String BLANK = "about:blank";
+
+    private volatile String url = BLANK;
+    private volatile boolean quit;
+
+    @Override public void get(String url) {
+        this.url = url;
+    }
+
+    @Override public String getCurrentUrl() {
+        return url;
+    }
+
+    @Override public String getTitle() {
+        return "";
+    }
+
+    @Override public List<WebElement> findElements(By by) {
+        return List.of();
+    }
+
+    @Override public WebElement findElement(By by) {
+        throw new NoSuchElementException(by.toString());
+    }
+
+    @Override public String getPageSource() {
+        return "";
+    }
+
+    @Override public void close() {
+        quit = true;
+    }
+
+    @Override public void quit() {
+        quit = true;
+    }
+
+    @Override public Set<String> getWindowHandles() {
+        return Set.of(getWindowHandle());
+    }
+
+    @Override public String getWindowHandle() {
+        return Integer.toHexString(System.identityHashCode(this));
+    }
+
+    @Override public TargetLocator switchTo() {
+        return noop(TargetLocator.class);
+    }
+
+    @Override public Navigation navigate() {
+        return noop(Navigation.class);
+    }
+
+    @Override public Options manage() {
+        return noop(Options.class);
+    }
+
+    /** @return {@code true} if the driver has been quit */
+    public boolean isQuit() {
+        return quit;
+    }
+
+    /** @return stub of the interface, whose methods do nothing and return {@code null} */
+    private static <T> T noop(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> type.getSimpleName() + "Stub";
+                    default -> null;
+                }));
+    }
+}
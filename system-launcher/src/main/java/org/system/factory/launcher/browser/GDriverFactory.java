@@ -15,9 +15,6 @@
  */
 package org.system.factory.launcher.browser;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
-import io.github.bonigarcia.wdm.config.DriverManagerType;
-import lombok.SneakyThrows;
 import org.jetbrains.annotations.NotNull;
 import org.openqa.selenium.WebDriver;
 import org.system.factory.launcher.browser.plattform.DriverInstance;
@@ -25,23 +22,45 @@ import org.system.factory.launcher.browser.plattform.DriverInstance;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
 
+import org.system.factory.launcher.browser.err.ProvisionException;
+import org.system.factory.launcher.browser.metrics.DriverMetrics;
+import org.system.factory.launcher.browser.metrics.Phase;
+import org.system.factory.launcher.browser.options.DriverOptions;
+import org.system.factory.launcher.browser.options.DriverProfile;
 import org.system.factory.launcher.browser.plattform.ExplorerValueMapper;
 import org.system.factory.launcher.browser.plattform.Sniffer;
 import org.system.factory.launcher.browser.plattform.SystemExplorer;
-import java.lang.reflect.InvocationTargetException;
-import java.nio.file.Paths;
-import java.util.Arrays;
+import org.system.factory.launcher.browser.provision.AdmissionController;
+import org.system.factory.launcher.browser.provision.DriverProvisioner;
+import org.system.factory.launcher.browser.reaper.ProcessReaper;
+import org.system.factory.launcher.browser.provision.ProvisionResult;
+import org.system.factory.launcher.browser.resolve.DriverConstructors;
+import org.system.factory.launcher.browser.reset.DriverReset;
+import org.system.factory.launcher.browser.resolve.DriverResolver;
+import org.system.factory.launcher.browser.teardown.DriverTeardown;
+import org.system.factory.launcher.browser.teardown.TeardownReport;
+import java.net.URL;
+import java.time.Duration;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 /**
  * System driver, which automates and system-specific performs
  * the specified Selenium Driver, do without preparations to meet.
+ * The browsers are started with the typed options of the {@link DriverProfile profile}.
  */
 @SupportedSourceVersion(SourceVersion.RELEASE_17)
-public @NotNull record GDriverFactory(@NotNull DriverInstance instance, long id, boolean autoClose)
+public @NotNull record GDriverFactory(@NotNull DriverInstance instance, long id, boolean autoClose,
+                                      @NotNull DriverProfile profile)
         implements SystemExplorer<WebDriver>, ExplorerValueMapper {
 
+    /** Factory with the {@link DriverProfile#configured() configured} profile. */
+    public GDriverFactory(@NotNull DriverInstance instance, long id, boolean autoClose) {
+        this(instance, id, autoClose, DriverProfile.configured());
+    }
+
     /**
      * The specified object is transferred to the internal list of objects assigned
      * to the ID of the object. Subsequently, the object is given back again.
@@ -51,7 +70,7 @@ public @NotNull record GDriverFactory(@NotNull DriverInstance instance, long id,
      * @return  the given element self
      */
     private <E extends WebDriver> E mappedObject(E element) {
-        queue.put(id, element);
+        registry.register(id, element);
         return element;
     }
 
@@ -68,58 +87,152 @@ public @NotNull record GDriverFactory(@NotNull DriverInstance instance, long id,
         LOGGER.info("start of creation and run a instance of the default web-driver");
         /* Creates a new DriverFactory instance with the system default
          * web-driver as parameter. */
-        return new GDriverFactory(Sniffer.systemBrowser(), new Random().nextLong(), true);
+        GDriverFactory factory = new GDriverFactory(Sniffer.systemBrowser(), new Random().nextLong(), autoClose);
+        /* Safety net for factories, which are never closed; the regular way is close() */
+        if (autoClose) cleaner.register(factory, leaked(factory.id(), factory.instance()));
+        return factory;
+    }
+
+    /**
+     * Action of the {@link #cleaner}, which tears down the drivers of a factory, that
+     * has become unreachable without being closed. It captures the id only, since a
+     * reference to the factory would keep it reachable forever.
+     */
+    private static @NotNull Runnable leaked(long id, @NotNull DriverInstance instance) {
+        return () -> {
+            List<WebDriver> drivers = registry.drain(id);
+            if (drivers.isEmpty()) return;
+            LOGGER.warn("factory [{}] has not been closed, its {} drivers are torn down", id, drivers.size());
+            DriverTeardown.teardown(instance, drivers);
+            ProcessReaper.shared().forget(id);
+        };
     }
 
-    @Override public @NotNull List<WebDriver> createDriverInstances(int count) {
-        return Arrays.asList(Arrays.asList(new WebDriver[count])
-                .parallelStream()
-                .map(gdf -> new GDriverFactory(instance, new Random().nextLong(), autoClose))
-                .map(this::mappedDriverInstance)
-                .toArray(WebDriver[]::new));
+    /**
+     * Creates the given count of instances on a dedicated, bounded executor.
+     * @see #provisionDriverInstances(int, int, Duration)
+     * @throws ProvisionException if not all instances could be created
+     */
+    @Override public @NotNull List<WebDriver> createDriverInstances(int count) throws ProvisionException {
+        return provisionDriverInstances(count, DriverProvisioner.DEFAULT_CONCURRENCY,
+                DriverProvisioner.DEFAULT_TIMEOUT).getOrThrow();
+    }
+
+    /**
+     * Creates the given count of instances in parallel, where every instance is registered
+     * under the id of this factory. Instead of aborting at the first failure, the created
+     * instances are returned together with the failures of the remaining ones. Instances, which are
+     * started after the timeout, are quit right away. Local browsers beyond the limit of the
+     * {@link AdmissionController} wait, until other browsers are torn down.
+     *
+     * @param count         count of instances
+     * @param concurrency   maximum count of browsers, which are started at the same time
+     * @param timeout       total time for the creation of all instances
+     * @return  the created instances and the failures
+     */
+    public @NotNull ProvisionResult<WebDriver> provisionDriverInstances(int count, int concurrency,
+                                                                        @NotNull Duration timeout) {
+        return DriverProvisioner.provision(count, concurrency, timeout, this::createDriverInstance, this::discard);
     }
 
-    @SneakyThrows
-    private WebDriver mappedDriverInstance(GDriverFactory factory) {
-        return mappedObject(factory.createDriverInstance());
+    /**
+     * Quits an instance, which has been started after the timeout of its provisioning
+     * and is therefore not handed out to the caller.
+     */
+    private void discard(@NotNull WebDriver driver) {
+        LOGGER.warn("{} has been started after the timeout of its provisioning and is quit", driver);
+        if (registry.deregister(id, driver)) DriverTeardown.teardown(instance, List.of(driver));
     }
 
-    @Override public WebDriver createDriverInstance() throws ClassNotFoundException, NoSuchMethodException,
-            InvocationTargetException, InstantiationException, IllegalAccessException {
+    /**
+     * Creates an instance, which is registered under the id of this factory. A local browser waits
+     * for its admission by the {@link AdmissionController#shared() admission controller} beforehand.
+     * Its permit is returned by the {@link #teardown()} of this factory; if the instance is quit
+     * directly, the permit is only reclaimed once its ended session is noticed by a waiting start.
+     * @throws TimeoutException if the browser has not been admitted within the
+     *                          {@link AdmissionController#DEFAULT_TIMEOUT admission timeout}
+     */
+    @Override public WebDriver createDriverInstance()
+            throws ReflectiveOperationException, TimeoutException, InterruptedException {
+        /* An own factory of the instance replaces the browser class and may do without a driver binary */
+        DriverConstructors.Registration registration = DriverConstructors.registration(instance);
+        Supplier<? extends WebDriver> constructor;
+        URL remote = null;
+
+        if (registration != null) {
+            if (registration.resolve()) DriverResolver.resolve(instance);
+            constructor = registration.factory();
+        } else if ((remote = DriverOptions.remote()) != null) {
+            /* The remote server brings its own driver binaries */
+            constructor = DriverConstructors.remote(remote, instance.options(profile));
+        } else if (profile == DriverProfile.DEFAULT) {
+            /* Installs the driver binary once per process and shares it with all further instances */
+            constructor = DriverConstructors.constructor(DriverResolver.resolve(instance));
+        } else {
+            constructor = DriverConstructors.constructor(DriverResolver.resolve(instance), instance.options(profile));
+        }
+        /* Stubs without driver binary and remote sessions do not start a local browser */
+        AdmissionController admission = (registration != null ? registration.resolve() : remote == null)
+                ? AdmissionController.shared() : null;
+        if (admission != null) {
+            long start = System.nanoTime();
+            boolean admitted = false;
+            try {
+                admission.acquire(AdmissionController.DEFAULT_TIMEOUT);
+                admitted = true;
+            } finally {
+                DriverMetrics.record(Phase.ADMISSION, instance, start, admitted);
+            }
+        }
 
-        LOGGER.info("manage web driver components and install feature of this");
-        WebDriverManager manage = WebDriverManager.getInstance(DriverManagerType.valueOf(instance.name()));
-        /* Set download path for the driver.jar file*/
-        manage.cachePath(tmpPath).setup();
         LOGGER.info("creates a  instance of the default web-driver and performs this using the installed features");
-        /* Creates a new WebDriver instance by inserting the collected
-         * data to the required digits via reflection and thus can be
-         * adjusted a constructor call. */
-        WebDriver driver = mappedObject((WebDriver) ((java.lang.reflect.Constructor<?>)
-                /* Create a Web driver instance using the Manager class and its previously
-                 * transferred browser name */
-                Class.forName(manage.getDriverManagerType().browserClass()).getConstructor())
-                /* Realization of instantiation */
-                .newInstance());
-        /* Store the generated path for later processing and
-         * deleting the created files when downloading the JVM.
-         * -> Set delete on exit */
-        Paths.get(manage.getDownloadedDriverPath()).toFile().deleteOnExit();
-
-        LOGGER.info(driver + " is created and was admitted to the queue.");
+        /* Creates a new WebDriver instance with the cached constructor of the browser class */
+        long start = System.nanoTime();
+        WebDriver driver = null;
+        try {
+            driver = mappedObject(constructor.get());
+        } finally {
+            DriverMetrics.record(Phase.CONSTRUCT, instance, start, driver != null);
+            if (admission != null) {
+                if (driver != null) admission.admit(driver);
+                else admission.release();
+            }
+        }
+        DriverMetrics.sessions(instance, 1);
+        /* Journals the processes of the driver in the background, so they are reaped even if this JVM dies */
+        ProcessReaper.shared().record(id, driver);
+
+        LOGGER.info("{} is created and was admitted to the queue.", driver);
         return driver;
     }
 
+    /**
+     * Resets the instance and records the latency under the browser of this factory.
+     * @see DriverReset#reset(WebDriver, DriverInstance, Duration)
+     */
+    @Override public boolean reset(@NotNull WebDriver driver) {
+        return DriverReset.reset(driver, instance, DriverReset.defaultTimeout());
+    }
+
     @Override public void close() {
-        if (autoClose) queue.get(id).forEach(driver -> clean(driver, driver::quit));
+        if (autoClose) teardown();
+    }
+
+    /**
+     * Quits all instances of this factory in parallel, regardless of {@link #autoClose()}.
+     * @see DriverTeardown#teardown(java.util.Collection)
+     * @return  the outcome and latency of every instance
+     */
+    public @NotNull TeardownReport teardown() {
+        TeardownReport report = DriverTeardown.teardown(instance, registry.drain(id));
+        ProcessReaper.shared().forget(id);
+        LOGGER.info("instances of factory [{}] are destroyed: {}", id, report);
+        return report;
     }
 
     @Override public void clean(Object o, Runnable r) {
-        LOGGER.info("destroy/delete " + (o.toString().contains(":") ?
-                o.toString().replace(": ", " [") : "files from [" + o)
-                + "] instance and clean with gc.");
-        cleaner.register(o, r);
-        System.gc();
+        LOGGER.info("destroy/delete [{}] instance", o);
+        r.run();
     }
 }
 
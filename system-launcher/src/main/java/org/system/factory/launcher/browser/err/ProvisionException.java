@@ -0,0 +1,19 @@
+package org.system.factory.launcher.browser.err;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Not all instances of a provisioning could be created. The first failure is the cause,
+ * all further failures are attached as suppressed.
+ */
+public class ProvisionException extends Exception {
+
+    /**
+     * @param failed    count of instances, which could not be created
+     * @param requested count of requested instances
+     * @param cause     the first failure
+     */
+    public ProvisionException(int failed, int requested, @NotNull Throwable cause) {
+        super(failed + " of " + requested + " instances could not be created: " + cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,52 @@
+package org.system.factory.launcher.browser.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+
+/**
+ * Access point of the instrumentation, which forwards the lifecycle metrics of all drivers
+ * to the installed {@link MetricsRecorder}. By default, the metrics are discarded.
+ */
+public final class DriverMetrics {
+
+    private static volatile MetricsRecorder recorder = MetricsRecorder.NOOP;
+
+    private DriverMetrics() {
+        //None content...
+    }
+
+    /** @return the installed recorder */
+    public static @NotNull MetricsRecorder recorder() {
+        return recorder;
+    }
+
+    /**
+     * @param recorder  recorder, which receives all further metrics
+     * @return  the previously installed recorder
+     */
+    public static @NotNull MetricsRecorder install(@NotNull MetricsRecorder recorder) {
+        final MetricsRecorder previous = DriverMetrics.recorder;
+        DriverMetrics.recorder = recorder;
+        return previous;
+    }
+
+    /**
+     * Records the latency of a phase, which has been started at the given time.
+     * @param phase     phase of the lifecycle
+     * @param instance  browser of the driver, {@code null} if not known in the phase
+     * @param start     {@link System#nanoTime() start} of the phase
+     * @param success   {@code false} if the phase has failed
+     */
+    public static void record(@NotNull Phase phase, @Nullable DriverInstance instance, long start, boolean success) {
+        recorder.record(phase, instance, System.nanoTime() - start, success);
+    }
+
+    /**
+     * @param instance  browser of the sessions
+     * @param delta     count of opened sessions, negative for closed sessions
+     */
+    public static void sessions(@NotNull DriverInstance instance, int delta) {
+        if (delta != 0) recorder.sessions(instance, delta);
+    }
+}
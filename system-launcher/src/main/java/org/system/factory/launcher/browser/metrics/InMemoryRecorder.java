@@ -0,0 +1,47 @@
+package org.system.factory.launcher.browser.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recorder, which keeps a latency histogram per phase and browser in memory and
+ * provides the current state as {@link #snapshot() snapshot}.
+ */
+public final class InMemoryRecorder implements MetricsRecorder {
+
+    private final Map<MetricsSnapshot.Key, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<DriverInstance, AtomicLong> sessions = new ConcurrentHashMap<>();
+
+    @Override public void record(@NotNull Phase phase, @Nullable DriverInstance instance, long nanos, boolean success) {
+        histograms.computeIfAbsent(new MetricsSnapshot.Key(phase, instance), key -> new LatencyHistogram())
+                .record(nanos, success);
+    }
+
+    @Override public void sessions(@NotNull DriverInstance instance, int delta) {
+        sessions.computeIfAbsent(instance, key -> new AtomicLong()).addAndGet(delta);
+    }
+
+    /** @return the metrics, which have been recorded so far */
+    public @NotNull MetricsSnapshot snapshot() {
+        final Map<MetricsSnapshot.Key, MetricsSnapshot.Stats> phases = new HashMap<>();
+        histograms.forEach((key, histogram) -> phases.put(key, new MetricsSnapshot.Stats(histogram.count(),
+                histogram.failures(), Duration.ofNanos(histogram.percentile(0.5)),
+                Duration.ofNanos(histogram.percentile(0.99)), Duration.ofNanos(histogram.max()))));
+
+        final Map<DriverInstance, Long> live = new HashMap<>();
+        sessions.forEach((instance, count) -> live.put(instance, count.get()));
+        return new MetricsSnapshot(phases, live);
+    }
+
+    /** Discards all recorded latencies, the live sessions are kept. */
+    public void clear() {
+        histograms.clear();
+    }
+}
@@ -0,0 +1,38 @@
+package org.system.factory.launcher.browser.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+
+/**
+ * Receiver of the lifecycle metrics of the drivers, installed with {@link DriverMetrics#install(MetricsRecorder)}.<br>
+ * Recorders are called on the hot path of every driver, concurrently and without synchronization,
+ * so they have to be thread-safe and must not block.
+ */
+public interface MetricsRecorder {
+
+    /** Recorder, which discards all metrics. */
+    MetricsRecorder NOOP = new MetricsRecorder() {
+        //None content...
+    };
+
+    /**
+     * Records the latency of a phase.
+     * @param phase     phase of the lifecycle
+     * @param instance  browser of the driver, {@code null} if not known in the phase
+     * @param nanos     latency in nanoseconds
+     * @param success   {@code false} if the phase has failed
+     */
+    default void record(@NotNull Phase phase, @Nullable DriverInstance instance, long nanos, boolean success) {
+        //None content...
+    }
+
+    /**
+     * Changes the count of live sessions of a browser.
+     * @param instance  browser of the sessions
+     * @param delta     count of opened sessions, negative for closed sessions
+     */
+    default void sessions(@NotNull DriverInstance instance, int delta) {
+        //None content...
+    }
+}
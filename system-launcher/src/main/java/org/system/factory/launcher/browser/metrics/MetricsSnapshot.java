@@ -0,0 +1,60 @@
+package org.system.factory.launcher.browser.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Metrics of an {@link InMemoryRecorder} at a point in time.
+ *
+ * @param phases    latencies by phase and browser
+ * @param sessions  live sessions by browser
+ */
+public record MetricsSnapshot(@NotNull Map<Key, Stats> phases, @NotNull Map<DriverInstance, Long> sessions) {
+
+    public MetricsSnapshot {
+        phases = Map.copyOf(phases);
+        sessions = Map.copyOf(sessions);
+    }
+
+    /**
+     * @param phase     phase of the lifecycle
+     * @param instance  browser of the driver, {@code null} if not known in the phase
+     */
+    public record Key(@NotNull Phase phase, @Nullable DriverInstance instance) {
+        //None content...
+    }
+
+    /**
+     * @param count     count of recorded phases
+     * @param failures  count of failed phases
+     * @param p50       median latency
+     * @param p99       99th percentile of the latency
+     * @param max       maximal latency
+     */
+    public record Stats(long count, long failures, @NotNull Duration p50, @NotNull Duration p99, @NotNull Duration max) {
+
+        /** Statistics of a phase, which has not been recorded. */
+        public static final Stats EMPTY = new Stats(0, 0, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+    }
+
+    /**
+     * @param phase     phase of the lifecycle
+     * @param instance  browser of the driver, {@code null} if not known in the phase
+     * @return  the statistics of the phase
+     */
+    public @NotNull Stats stats(@NotNull Phase phase, @Nullable DriverInstance instance) {
+        return phases.getOrDefault(new Key(phase, instance), Stats.EMPTY);
+    }
+
+    /**
+     * @param instance  browser of the sessions
+     * @return  the count of live sessions of the browser
+     */
+    public long sessions(@NotNull DriverInstance instance) {
+        return sessions.getOrDefault(instance, 0L);
+    }
+}
@@ -0,0 +1,56 @@
+package org.system.factory.launcher.browser.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recorder, which exports the metrics to a Micrometer {@link MeterRegistry}.<br>
+ * Latencies are recorded by the timer {@value #PHASE_TIMER} with the tags {@code phase},
+ * {@code instance} and {@code outcome} and publish their median and 99th percentile;
+ * the live sessions are exported by the gauge {@value #SESSION_GAUGE} per {@code instance}.
+ * Micrometer is an optional dependency, which has to be provided by the application.
+ */
+public final class MicrometerRecorder implements MetricsRecorder {
+
+    public static final String PHASE_TIMER = "gsys.driver.phase";
+    public static final String SESSION_GAUGE = "gsys.driver.sessions";
+
+    private final MeterRegistry registry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<DriverInstance, AtomicLong> sessions = new ConcurrentHashMap<>();
+
+    private record TimerKey(Phase phase, DriverInstance instance, boolean success) {
+        //None content...
+    }
+
+    public MicrometerRecorder(@NotNull MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override public void record(@NotNull Phase phase, @Nullable DriverInstance instance, long nanos, boolean success) {
+        timers.computeIfAbsent(new TimerKey(phase, instance, success), key -> Timer.builder(PHASE_TIMER)
+                        .tags(Tags.of("phase", phase.name().toLowerCase(), "instance", name(instance),
+                                "outcome", success ? "success" : "failure"))
+                        .publishPercentiles(0.5, 0.99)
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override public void sessions(@NotNull DriverInstance instance, int delta) {
+        sessions.computeIfAbsent(instance, key -> registry.gauge(SESSION_GAUGE,
+                Tags.of("instance", name(key)), new AtomicLong())).addAndGet(delta);
+    }
+
+    private static String name(DriverInstance instance) {
+        return instance == null ? "unknown" : instance.name().toLowerCase();
+    }
+}
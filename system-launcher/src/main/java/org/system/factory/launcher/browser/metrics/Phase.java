@@ -0,0 +1,19 @@
+package org.system.factory.launcher.browser.metrics;
+
+/**
+ * Phases of the lifecycle of a driver, whose latency is recorded by the {@link MetricsRecorder}.
+ */
+public enum Phase {
+    /** Installation or lookup of the driver binary, see {@code DriverResolver}. */
+    RESOLVE,
+    /** Wait of a start for its admission, see {@code AdmissionController}. */
+    ADMISSION,
+    /** Start of the driver service and the browser session. */
+    CONSTRUCT,
+    /** Detection of the default browser of the system, see {@code Sniffer}. */
+    PROBE,
+    /** Quit of a driver, including the kill of its process tree. */
+    TEARDOWN,
+    /** Reset of a driver for its reuse. */
+    RESET
+}
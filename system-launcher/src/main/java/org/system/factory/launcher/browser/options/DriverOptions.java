@@ -0,0 +1,85 @@
+package org.system.factory.launcher.browser.options;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.ie.InternetExplorerOptions;
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Typed options of the browsers per {@link DriverInstance} and {@link DriverProfile}.<br>
+ * The options are built once per instance and profile and shared by all drivers, so they must not
+ * be modified after they have been handed out. If the {@value #REMOTE_PROPERTY} property is set,
+ * the browsers are started on this remote Selenium server instead of locally.
+ */
+public final class DriverOptions {
+
+    /** System property with the URL of a remote Selenium server. */
+    public static final String REMOTE_PROPERTY = "gsys.driver.remote";
+
+    private static final Map<DriverInstance, Map<DriverProfile, Capabilities>> OPTIONS = new ConcurrentHashMap<>();
+
+    private DriverOptions() {
+        //None content...
+    }
+
+    /**
+     * @param instance  browser of the options
+     * @param profile   preset of the options
+     * @return  the cached options of the browser
+     */
+    public static @NotNull Capabilities options(@NotNull DriverInstance instance, @NotNull DriverProfile profile) {
+        return OPTIONS.computeIfAbsent(instance, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(profile, key -> build(instance, profile));
+    }
+
+    /** @return the URL of the remote Selenium server or {@code null}, if the browsers are started locally */
+    public static @Nullable URL remote() {
+        final String url = System.getProperty(REMOTE_PROPERTY);
+        if (url == null || url.isBlank()) return null;
+        try {
+            return new URL(url.trim());
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid remote url of " + REMOTE_PROPERTY + ": " + url, e);
+        }
+    }
+
+    private static Capabilities build(DriverInstance instance, DriverProfile profile) {
+        final MutableCapabilities options = switch (instance) {
+            case CHROME -> new ChromeOptions();
+            case EDGE, MSEDGE -> new EdgeOptions();
+            case FIREFOX -> new FirefoxOptions();
+            case IEXPLORER -> new InternetExplorerOptions();
+        };
+        if (profile == DriverProfile.LEAN) lean(options);
+        return options;
+    }
+
+    private static void lean(MutableCapabilities options) {
+        if (options instanceof ChromiumOptions<?> chromium) {
+            chromium.addArguments("--headless", "--disable-gpu", "--disable-extensions",
+                    "--disable-dev-shm-usage", "--blink-settings=imagesEnabled=false");
+            chromium.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
+            chromium.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        } else if (options instanceof FirefoxOptions firefox) {
+            firefox.addArguments("-headless");
+            firefox.addPreference("permissions.default.image", 2);
+            firefox.addPreference("extensions.enabledScopes", 0);
+            firefox.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        } else if (options instanceof InternetExplorerOptions explorer) {
+            /* The Internet Explorer can neither run headless nor without images */
+            explorer.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        }
+    }
+}
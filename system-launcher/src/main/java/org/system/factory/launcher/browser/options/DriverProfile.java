@@ -0,0 +1,27 @@
+package org.system.factory.launcher.browser.options;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Presets of the options, with which the browsers of a {@code GDriverFactory} are started.
+ */
+public enum DriverProfile {
+
+    /** Options of the browser class, like its no-arg constructor. */
+    DEFAULT,
+    /**
+     * Throughput-oriented options for test runs: headless, without images and extensions and with
+     * the {@link org.openqa.selenium.PageLoadStrategy#EAGER eager} page-load strategy, which roughly
+     * halves memory and startup time of a browser.
+     */
+    LEAN;
+
+    /** System property, which selects the profile of factories without explicit profile. */
+    public static final String PROFILE_PROPERTY = "gsys.driver.profile";
+
+    /** @return the profile of the {@value #PROFILE_PROPERTY} property, {@link #DEFAULT} if not set */
+    public static @NotNull DriverProfile configured() {
+        final String name = System.getProperty(PROFILE_PROPERTY);
+        return name == null || name.isBlank() ? DEFAULT : valueOf(name.trim().toUpperCase());
+    }
+}
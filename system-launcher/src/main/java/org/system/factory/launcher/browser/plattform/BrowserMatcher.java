@@ -0,0 +1,76 @@
+package org.system.factory.launcher.browser.plattform;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Detection engine, which finds the {@link DriverInstance} named in the output of a probe.<br>
+ * The {@link DriverInstance#get() regex} of all instances of a set are compiled once into a
+ * single alternation, so every output line is scanned in one pass, independent of the count of
+ * instances. If several instances match in one line, the leftmost match wins; at the same
+ * position the instance declared first wins.
+ */
+public final class BrowserMatcher {
+
+    private static final Map<Set<DriverInstance>, BrowserMatcher> MATCHERS = new ConcurrentHashMap<>();
+    private static final String GROUP = "driver";
+
+    private final DriverInstance[] instances;
+    private final Pattern pattern;
+
+    private BrowserMatcher(Set<DriverInstance> instances) {
+        this.instances = instances.toArray(DriverInstance[]::new);
+        /* Named groups keep their name, even if the regex of an instance declares own groups */
+        this.pattern = Pattern.compile(Arrays.stream(this.instances)
+                .map(driver -> "(?<" + GROUP + driver.ordinal() + ">" + driver.get().regex() + ")")
+                .collect(Collectors.joining("|")));
+    }
+
+    /** @return the matcher of all {@link DriverInstance driver instances} */
+    public static @NotNull BrowserMatcher all() {
+        return of(EnumSet.allOf(DriverInstance.class));
+    }
+
+    /**
+     * @param instances driver instances to detect
+     * @return  the compiled matcher of the instances, which is shared for equal sets
+     */
+    public static @NotNull BrowserMatcher of(@NotNull Collection<DriverInstance> instances) {
+        if (instances.isEmpty()) throw new IllegalArgumentException("At least one driver instance is required.");
+        return MATCHERS.computeIfAbsent(EnumSet.copyOf(instances), BrowserMatcher::new);
+    }
+
+    /**
+     * @param line  a single line of the probe output
+     * @return  the driver instance named in the line
+     */
+    public @NotNull Optional<DriverInstance> match(@NotNull CharSequence line) {
+        final Matcher matcher = pattern.matcher(line);
+        if (!matcher.find()) return Optional.empty();
+
+        for (DriverInstance driver : instances) {
+            if (matcher.start(GROUP + driver.ordinal()) >= 0) return Optional.of(driver);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Consumes the lines lazily and stops at the first line, which names a driver instance.
+     * @param lines the lines of the probe output
+     * @return  the first driver instance named in the lines
+     */
+    public @NotNull Optional<DriverInstance> first(@NotNull Stream<String> lines) {
+        return lines.map(this::match).flatMap(Optional::stream).findFirst();
+    }
+}
@@ -1,6 +1,9 @@
 package org.system.factory.launcher.browser.plattform;
 
 import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.Capabilities;
+import org.system.factory.launcher.browser.options.DriverOptions;
+import org.system.factory.launcher.browser.options.DriverProfile;
 
 /**
  * Types of creatable driver instances
@@ -23,6 +26,15 @@ public enum DriverInstance {
         return this.browser;
     }
 
+    /**
+     * @param profile   preset of the options
+     * @return  the typed options of this browser, like {@code ChromeOptions}
+     * @see DriverOptions#options(DriverInstance, DriverProfile)
+     */
+    public @NotNull Capabilities options(@NotNull DriverProfile profile) {
+        return DriverOptions.options(this, profile);
+    }
+
     /**
      * Template class for System-driver-constant
      */
@@ -1,14 +1,12 @@
 package org.system.factory.launcher.browser.plattform;
 
-import org.openqa.selenium.WebDriver;
-
 /**
  * Class for caching and editing stored Values,
  * which will be further processed later.
  */
 public interface ExplorerValueMapper extends AutoCloseable {
-    /** queue for the stored values */
-    com.google.common.collect.Multimap<Long, WebDriver> queue = com.google.common.collect.ArrayListMultimap.create();
+    /** registry of the stored sessions, assigned to the id of their factory */
+    SessionRegistry registry = new SessionRegistry();
     /** @see AutoCloseable#close() */
     java.lang.ref.Cleaner cleaner = java.lang.ref.Cleaner.create();
     /** @return class id */
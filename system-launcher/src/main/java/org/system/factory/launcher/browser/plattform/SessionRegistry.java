@@ -0,0 +1,87 @@
+package org.system.factory.launcher.browser.plattform;
+
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+/**
+ * Registry of the live driver sessions, assigned to the id of the factory that created them.<br>
+ * Registration and deregistration are O(1) and only lock the bin of the concerned factory id
+ * inside the underlying {@link ConcurrentHashMap}, so parallel factories never contend on a
+ * global lock. Enumerations are weakly consistent views of the registered sessions.
+ */
+public final class SessionRegistry {
+
+    private final ConcurrentMap<Long, Set<WebDriver>> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a driver to the sessions of a factory.
+     * @param id        id of the owning factory
+     * @param driver    driver to register
+     * @return  {@code true} if the driver was not yet registered for this id
+     */
+    public boolean register(long id, @NotNull WebDriver driver) {
+        final boolean[] added = new boolean[1];
+        sessions.compute(id, (key, drivers) -> {
+            if (drivers == null) drivers = ConcurrentHashMap.newKeySet();
+            added[0] = drivers.add(driver);
+            return drivers;
+        });
+        return added[0];
+    }
+
+    /**
+     * Removes a driver from the sessions of a factory. Factories without sessions are dropped.
+     * @param id        id of the owning factory
+     * @param driver    driver to remove
+     * @return  {@code true} if the driver was registered for this id
+     */
+    public boolean deregister(long id, @NotNull WebDriver driver) {
+        final boolean[] removed = new boolean[1];
+        sessions.computeIfPresent(id, (key, drivers) -> {
+            removed[0] = drivers.remove(driver);
+            return drivers.isEmpty() ? null : drivers;
+        });
+        return removed[0];
+    }
+
+    /**
+     * @param id    id of the owning factory
+     * @return  unmodifiable view of the sessions of the factory
+     */
+    public @NotNull Set<WebDriver> sessions(long id) {
+        final Set<WebDriver> drivers = sessions.get(id);
+        return drivers == null ? Set.of() : Collections.unmodifiableSet(drivers);
+    }
+
+    /**
+     * Removes all sessions of a factory at once, so that each session is handed to exactly one caller.
+     * @param id    id of the owning factory
+     * @return  the removed sessions
+     */
+    public @NotNull List<WebDriver> drain(long id) {
+        final Set<WebDriver> drivers = sessions.remove(id);
+        return drivers == null ? List.of() : List.copyOf(drivers);
+    }
+
+    /** @return all live sessions of all factories */
+    public @NotNull Stream<WebDriver> live() {
+        return sessions.values().stream().flatMap(Set::stream);
+    }
+
+    /** @return ids of all factories with live sessions */
+    public @NotNull Set<Long> factories() {
+        return Collections.unmodifiableSet(sessions.keySet());
+    }
+
+    /** @return number of live sessions of all factories */
+    public int size() {
+        return sessions.values().stream().mapToInt(Set::size).sum();
+    }
+}
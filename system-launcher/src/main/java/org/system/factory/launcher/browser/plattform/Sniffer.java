@@ -5,16 +5,20 @@ import org.apache.commons.lang.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.system.factory.launcher.browser.err.OSException;
+import org.system.factory.launcher.browser.metrics.DriverMetrics;
+import org.system.factory.launcher.browser.metrics.Phase;
 import org.system.factory.launcher.browser.plattform.osc.OS;
+import org.system.factory.launcher.utils.process.ProcessLines;
+import org.system.factory.launcher.utils.process.ProcessRunner;
 
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.util.Arrays;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Sniffer class to determine the required information
@@ -23,15 +27,119 @@ import java.util.stream.Collectors;
 @SupportedSourceVersion(SourceVersion.RELEASE_17)
 public @NotNull record Sniffer(@NotNull OS os, @NotNull String[] regex) {
 
+    /** System property, which sets the system web-browser and skips the probe. */
+    public static final String BROWSER_PROPERTY = "gsys.browser";
+    /** Environment variable, which sets the system web-browser and skips the probe. */
+    public static final String BROWSER_ENV = "GSYS_BROWSER";
+    /** System property, which starts the probe as soon as this class is initialized. */
+    public static final String PREFETCH_PROPERTY = "gsys.browser.prefetch";
+
+    /** Detection of the system web-browser, which is shared for the lifetime of the JVM. */
+    private static final AtomicReference<CompletableFuture<DriverInstance>> DETECTION = new AtomicReference<>();
+
+    static {
+        /* Keeps the forking of the probe processes off the critical path of the test startup */
+        if (Boolean.getBoolean(PREFETCH_PROPERTY)) systemBrowserAsync();
+    }
+
     /**
-     * Find the name of the system web-browser
+     * Find the name of the system web-browser. The probe runs only once,
+     * further calls are answered from the cached result until {@link #refresh()}.
      *
      * @return {@link DriverInstance#name() name of system web-browser}
      */
+    @SneakyThrows
     public static @NotNull DriverInstance systemBrowser() {
-        return Objects.requireNonNull(Arrays.stream(DriverInstance.values())
-                .filter(driver -> driver.name().equals(Sniffer.systemBrowserName()))
-                .findFirst().orElse(null));
+        try {
+            return systemBrowserAsync().join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #systemBrowser()}. The first call starts the probe
+     * in the background, all further calls share its result. An invalid override fails
+     * the returned detection without being cached.
+     *
+     * @return the detection of the system web-browser
+     */
+    public static @NotNull CompletableFuture<DriverInstance> systemBrowserAsync() {
+        CompletableFuture<DriverInstance> detection = DETECTION.get();
+        if (detection != null) return detection;
+
+        /* The override is validated before the detection is published, an invalid one is never cached */
+        final DriverInstance override;
+        try {
+            override = override();
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        final CompletableFuture<DriverInstance> created = new CompletableFuture<>();
+        /* A failing probe may reset the detection between a lost race and its read */
+        while (!DETECTION.compareAndSet(null, created)) {
+            final CompletableFuture<DriverInstance> current = DETECTION.get();
+            if (current != null) return current;
+        }
+
+        if (override != null) {
+            created.complete(override);
+            return created;
+        }
+        final Thread probe = new Thread(() -> {
+            try {
+                created.complete(detect());
+            } catch (Throwable e) {
+                /* A failed probe is not cached, the next call probes again */
+                DETECTION.compareAndSet(created, null);
+                created.completeExceptionally(e);
+            }
+        }, "gsys-sniffer");
+        probe.setDaemon(true);
+        probe.start();
+        return created;
+    }
+
+    /**
+     * Discards the cached system web-browser and starts a new detection.
+     * @return the new detection of the system web-browser
+     */
+    public static @NotNull CompletableFuture<DriverInstance> refresh() {
+        DETECTION.set(null);
+        return systemBrowserAsync();
+    }
+
+    /**
+     * @return the system web-browser, which is set via system property or environment variable
+     * @throws IllegalArgumentException if the set name is no {@link DriverInstance}
+     */
+    private static @Nullable DriverInstance override() {
+        String name = System.getProperty(BROWSER_PROPERTY);
+        if (StringUtils.isBlank(name)) name = System.getenv(BROWSER_ENV);
+        if (StringUtils.isBlank(name)) return null;
+        try {
+            return DriverInstance.valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown system web-browser [" + name + "] set via "
+                    + BROWSER_PROPERTY + " or " + BROWSER_ENV + ", expected one of "
+                    + Arrays.toString(DriverInstance.values()), e);
+        }
+    }
+
+    /** @return the system web-browser, which is determined with the probe of the current OS */
+    private static @NotNull DriverInstance detect() {
+        final long start = System.nanoTime();
+        DriverInstance instance = null;
+        try {
+            final String name = Sniffer.systemBrowserName();
+            instance = Objects.requireNonNull(Arrays.stream(DriverInstance.values())
+                    .filter(driver -> driver.name().equals(name))
+                    .findFirst().orElse(null));
+            return instance;
+        } finally {
+            DriverMetrics.record(Phase.PROBE, instance, start, instance != null);
+        }
     }
 
     /**
@@ -40,6 +148,7 @@ public @NotNull record Sniffer(@NotNull OS os, @NotNull String[] regex) {
      *
      * @return name of the System-default-browser
      * @see #name()
+     * @see #systemBrowser() cached detection
      */
     @SneakyThrows
     public static @Nullable String systemBrowserName() {
@@ -60,21 +169,15 @@ public @NotNull record Sniffer(@NotNull OS os, @NotNull String[] regex) {
 
     /**
      * Compares the name of existing web-driver values with the system default web driver name <br>
-     * used regex for find the name
+     * The output of the probe is streamed via the {@link ProcessRunner} and matched with the
+     * {@link BrowserMatcher#all() precompiled regex} of all driver instances, the probe is stopped
+     * at the first match.
      *
-     * @return regex command for find the system default web-browser
+     * @return name of the system default web-browser or an empty string, if no browser is named
      */
     public @Nullable String name() {
-        try {// registration where we find the default browser
-            return StringUtils.join(
-                    new BufferedReader(new InputStreamReader(new ProcessBuilder(regex)
-                            .start().getInputStream())).lines()
-                            .filter(Objects::nonNull)
-                            .map(e -> Arrays.stream(DriverInstance.values())
-                                    .filter(driver -> e.matches("(.*)" + driver.get().regex() + "(.*)"))
-                                    .map(Enum::name)
-                                    .findFirst().orElse("")
-                            ).collect(Collectors.toList()), "");
+        try (ProcessLines lines = ProcessRunner.shared().lines(regex)) {// registration where we find the default browser
+            return BrowserMatcher.all().first(lines.stream()).map(Enum::name).orElse("");
         } catch (IOException e) {
             e.printStackTrace();
             return null;
@@ -21,4 +21,15 @@ public interface SystemExplorer <T extends org.openqa.selenium.WebDriver> extend
      * @return  a web-driver instance of the system default driver
      */
     @org.jetbrains.annotations.Nullable T createDriverInstance() throws Exception;
+    /**
+     * Clears the state of a web-driver instance for its reuse: closes all windows but one, deletes
+     * the cookies and the web storage and navigates to {@code about:blank}, within a bounded time.
+     * @param driver    instance to reset
+     * @return  {@code true} if the instance has been reset, {@code false} if it has to be discarded
+     * @see org.system.factory.launcher.browser.reset.DriverReset
+     */
+    default boolean reset(@org.jetbrains.annotations.NotNull T driver) {
+        return org.system.factory.launcher.browser.reset.DriverReset.reset(driver,
+                org.system.factory.launcher.browser.reset.DriverReset.defaultTimeout());
+    }
 }
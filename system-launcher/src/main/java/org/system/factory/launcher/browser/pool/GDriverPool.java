@@ -0,0 +1,345 @@
+package org.system.factory.launcher.browser.pool;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.system.factory.launcher.browser.GDriverFactory;
+import org.system.factory.launcher.browser.options.DriverProfile;
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+import org.system.factory.launcher.browser.plattform.ExplorerValueMapper;
+import org.system.factory.launcher.browser.plattform.Sniffer;
+import org.system.factory.launcher.browser.plattform.SystemExplorer;
+import org.system.factory.launcher.browser.provision.DriverProvisioner;
+import org.system.factory.launcher.browser.provision.ProvisionResult;
+import org.system.factory.launcher.browser.reaper.ProcessReaper;
+import org.system.factory.launcher.browser.teardown.DriverTeardown;
+import org.system.factory.launcher.browser.teardown.TeardownReport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of reusable web-driver instances.<br>
+ * Drivers are created through {@link GDriverFactory} and handed out with borrow/return
+ * semantics instead of being started and quit for every single use. Before a driver is
+ * handed out, it is checked for a living browser session; unused drivers are quit after
+ * the {@link PoolSettings#maxIdle() idle time} has expired.<br>
+ * Like a connection pool, the pool can be warmed up: on creation it starts the
+ * {@link PoolSettings#target() target} count of drivers in the background and keeps at least
+ * {@link PoolSettings#minIdle() minIdle} drivers ready, refilling them asynchronously as soon as
+ * one is borrowed or found dead, so the startup of the browsers is hidden behind the test execution.
+ */
+public final class GDriverPool implements SystemExplorer<WebDriver>, ExplorerValueMapper {
+
+    /** Polling interval of waiting borrowers, so that freed capacity is noticed. */
+    private static final long WAIT_SLICE = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final GDriverFactory factory;
+    private final PoolSettings settings;
+    private final BlockingDeque<Idle> idle = new LinkedBlockingDeque<>();
+    private final Set<WebDriver> borrowed = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger live = new AtomicInteger();
+    private final ScheduledExecutorService evictor;
+    private final ExecutorService warmer;
+    private final AtomicBoolean replenishing = new AtomicBoolean();
+    private volatile boolean closed;
+
+    /**
+     * Driver, which is currently not borrowed.
+     * @param driver    the pooled driver
+     * @param since     {@link System#nanoTime() time} of the return to the pool
+     */
+    private record Idle(WebDriver driver, long since) {
+        //None content...
+    }
+
+    /**
+     * Analyzes the OS and its default web browser and creates a pool for this browser.
+     * @return  a pool with {@link PoolSettings#DEFAULT default settings}
+     */
+    public static @NotNull GDriverPool systemPool() {
+        return systemPool(PoolSettings.DEFAULT);
+    }
+
+    public static @NotNull GDriverPool systemPool(@NotNull PoolSettings settings) {
+        LOGGER.info("start of creation a pool of the default web-driver");
+        return new GDriverPool(Sniffer.systemBrowser(), settings);
+    }
+
+    public GDriverPool(@NotNull DriverInstance instance, @NotNull PoolSettings settings) {
+        this(instance, settings, DriverProfile.configured());
+    }
+
+    /**
+     * @param instance  browser of the pool
+     * @param settings  size and timeouts of the pool
+     * @param profile   preset of the options, with which the browsers of the pool are started
+     */
+    public GDriverPool(@NotNull DriverInstance instance, @NotNull PoolSettings settings,
+                       @NotNull DriverProfile profile) {
+        this.factory = new GDriverFactory(instance, new Random().nextLong(), false, profile);
+        this.settings = settings;
+        this.evictor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("gsys-pool-evictor-%d").setDaemon(true).build());
+
+        this.warmer = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("gsys-pool-warmer-%d").setDaemon(true).build());
+
+        long period = Math.max(settings.maxIdle().toMillis() / 2, 1000);
+        evictor.scheduleWithFixedDelay(this::evict, period, period, TimeUnit.MILLISECONDS);
+        if (settings.warmUpSize() > 0) warmUp();
+    }
+
+    @Override public long id() {
+        return factory.id();
+    }
+
+    public @NotNull DriverInstance instance() {
+        return factory.instance();
+    }
+
+    public @NotNull PoolSettings settings() {
+        return settings;
+    }
+
+    /** @return number of drivers, which are currently started (idle and borrowed) */
+    public int liveCount() {
+        return live.get();
+    }
+
+    /** @return number of drivers, which are waiting for a borrower */
+    public int idleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Starts drivers in the background, until the {@link PoolSettings#warmUpSize() warm-up size}
+     * of idle drivers is reached. Warm-ups are carried out one after another, so the returned
+     * future also waits for all warm-ups requested before.
+     * @return  the count of drivers, which have been started
+     */
+    public @NotNull CompletableFuture<Integer> warmUp() {
+        return CompletableFuture.supplyAsync(() -> fill(settings.warmUpSize()), warmer);
+    }
+
+    /**
+     * Hands out a healthy driver of the pool. Idle drivers are reused first, a new driver is
+     * only started if the {@link PoolSettings#maxSize() maximum size} is not yet reached.
+     * Otherwise, the call waits for a returned driver until the borrow timeout has expired.
+     *
+     * @return  a driver, which is exclusively assigned to the caller until it is
+     *          {@link #release(WebDriver) released}
+     * @throws TimeoutException if no driver became available within the borrow timeout
+     */
+    public @NotNull WebDriver borrow() throws Exception {
+        final long deadline = System.nanoTime() + settings.borrowTimeout().toNanos();
+
+        while (!closed) {
+            Idle entry = idle.pollFirst();
+            if (entry != null) {
+                /* A driver that no longer responds is replaced instead of being handed out. */
+                final boolean alive = isAlive(entry.driver());
+                if (!alive) destroy(entry.driver());
+                replenish();
+                if (alive) return lend(entry.driver());
+                continue;
+            }
+
+            if (live.incrementAndGet() <= settings.maxSize()) {
+                replenish();
+                try {
+                    return lend(Objects.requireNonNull(factory.createDriverInstance()));
+                } catch (Exception e) {
+                    live.decrementAndGet();
+                    throw e;
+                }
+            }
+            live.decrementAndGet();
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) break;
+
+            entry = idle.pollFirst(Math.min(remaining, WAIT_SLICE), TimeUnit.NANOSECONDS);
+            if (entry != null) idle.offerFirst(entry);
+        }
+        if (closed) throw new IllegalStateException("The driver pool is already closed.");
+        throw new TimeoutException("No driver of " + instance() + " became available within "
+                + settings.borrowTimeout());
+    }
+
+    /**
+     * Returns a borrowed driver to the pool, where it is available for the next borrower.
+     * The driver is {@link #reset(WebDriver) reset} first; if the reset fails, the driver is discarded.
+     * After the pool has been {@link #close() closed}, the driver is quit quietly.
+     * @param driver    driver, which was previously {@link #borrow() borrowed} from this pool
+     */
+    public void release(@NotNull WebDriver driver) {
+        if (!borrowed.remove(driver)) {
+            if (!closed) throw new IllegalArgumentException(driver + " was not borrowed from this pool.");
+            /* The close has taken over the borrowed drivers, it quits them unless this already happened */
+            if (registry.deregister(id(), driver)) DriverTeardown.teardown(instance(), List.of(driver));
+            return;
+        }
+
+        if (!closed && reset(driver)) {
+            final Idle entry = new Idle(driver, System.nanoTime());
+            idle.offerFirst(entry);
+            /* A close during the reset has already drained the idle drivers */
+            if (!closed || !idle.remove(entry)) return;
+        }
+        destroy(driver);
+        replenish();
+    }
+
+    /** @see GDriverFactory#reset(WebDriver) */
+    @Override public boolean reset(@NotNull WebDriver driver) {
+        return factory.reset(driver);
+    }
+
+    /** @see #borrow() */
+    @Override public @NotNull WebDriver createDriverInstance() throws Exception {
+        return borrow();
+    }
+
+    @Override public @NotNull List<WebDriver> createDriverInstances(int count) throws Exception {
+        final List<WebDriver> drivers = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) drivers.add(borrow());
+        } catch (Exception e) {
+            drivers.forEach(this::release);
+            throw e;
+        }
+        return drivers;
+    }
+
+    @Override public void close() {
+        closed = true;
+        evictor.shutdownNow();
+        warmer.shutdownNow();
+
+        final List<WebDriver> drivers = new ArrayList<>();
+        Idle entry;
+        while ((entry = idle.pollFirst()) != null) drivers.add(entry.driver());
+        borrowed.forEach(driver -> {
+            if (borrowed.remove(driver)) drivers.add(driver);
+        });
+        destroy(drivers);
+        /* Drivers, which are neither idle nor borrowed, like starts finishing during the close, are quit as well */
+        final List<WebDriver> untracked = registry.drain(id());
+        if (!untracked.isEmpty()) DriverTeardown.teardown(instance(), untracked);
+        ProcessReaper.shared().forget(id());
+    }
+
+    @Override public void clean(Object o, Runnable r) {
+        LOGGER.info("destroy pooled instance [{}]", o);
+        r.run();
+    }
+
+    private WebDriver lend(WebDriver driver) {
+        borrowed.add(driver);
+        return driver;
+    }
+
+    /**
+     * Quits all drivers, which have not been borrowed within the idle time, as long as more than
+     * {@link PoolSettings#minIdle() minIdle} drivers are idle, and refills missing idle drivers.
+     */
+    private void evict() {
+        final long limit = System.nanoTime() - settings.maxIdle().toNanos();
+        destroy(idle.stream().filter(entry -> entry.since() - limit < 0)
+                .filter(entry -> idle.size() > settings.minIdle())
+                /* Only the thread that removes the entry may quit the driver. */
+                .filter(idle::remove)
+                .map(Idle::driver)
+                .toList());
+        replenish();
+    }
+
+    /** Refills the idle drivers up to {@link PoolSettings#minIdle() minIdle} in the background. */
+    private void replenish() {
+        if (closed || idle.size() >= settings.minIdle() || !replenishing.compareAndSet(false, true)) return;
+        try {
+            warmer.execute(() -> {
+                int started;
+                try {
+                    started = fill(settings.minIdle());
+                } finally {
+                    replenishing.set(false);
+                }
+                /* Drivers borrowed during the refill are replaced right away, failures wait for the evictor */
+                if (started > 0) replenish();
+            });
+        } catch (RejectedExecutionException e) {
+            replenishing.set(false);
+        }
+    }
+
+    /**
+     * Starts idle drivers in parallel, until the given count of idle drivers is reached
+     * or the {@link PoolSettings#maxSize() maximum size} of the pool would be exceeded.
+     * @param count count of idle drivers to reach
+     * @return  the count of started drivers
+     */
+    private int fill(int count) {
+        int reserved = 0;
+        /* The capacity is reserved up front, so borrowers never exceed the maximum size meanwhile */
+        for (int wanted = count - idle.size(), current; reserved < wanted && !closed
+                && (current = live.get()) < settings.maxSize(); ) {
+            if (live.compareAndSet(current, current + 1)) reserved++;
+        }
+        if (reserved == 0) return 0;
+
+        final ProvisionResult<WebDriver> result = factory.provisionDriverInstances(reserved,
+                DriverProvisioner.DEFAULT_CONCURRENCY, DriverProvisioner.DEFAULT_TIMEOUT);
+        /* Starts, which have timed out, are failures; should they finish late, the factory quits their drivers */
+        live.addAndGet(-result.failures().size());
+        result.failures().forEach(failure ->
+                LOGGER.warn("idle instance of {} could not be started: {}", instance(), failure.getMessage()));
+
+        for (WebDriver driver : result.drivers()) {
+            final Idle entry = new Idle(driver, System.nanoTime());
+            idle.offerLast(entry);
+            /* A close during the start has already drained the idle drivers */
+            if (closed && idle.remove(entry)) destroy(driver);
+        }
+        return result.drivers().size();
+    }
+
+    private void destroy(WebDriver driver) {
+        destroy(List.of(driver));
+    }
+
+    /** Quits the given drivers in parallel, see {@link DriverTeardown}. */
+    private void destroy(List<WebDriver> drivers) {
+        if (drivers.isEmpty()) return;
+        drivers.forEach(driver -> {
+            live.decrementAndGet();
+            registry.deregister(id(), driver);
+        });
+        TeardownReport report = DriverTeardown.teardown(instance(), drivers);
+        if (!report.isClean()) LOGGER.warn("pooled instances are destroyed: {}", report);
+    }
+
+    /**
+     * Health check before a driver is handed out.
+     * @param driver    driver to check
+     * @return  {@code true} if the browser session of the driver still responds
+     */
+    static boolean isAlive(@NotNull WebDriver driver) {
+        if (driver instanceof RemoteWebDriver remote && remote.getSessionId() == null) return false;
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.system.factory.launcher.browser.pool;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Settings of a {@link GDriverPool driver pool}.
+ *
+ * @param maxSize       maximum number of live drivers (idle and borrowed) of the pool
+ * @param maxIdle       time after which an unused driver is quit and removed from the pool
+ * @param borrowTimeout maximum time a borrower waits for a free driver
+ * @param minIdle       number of idle drivers, which are kept ready in the background and never evicted
+ * @param target        number of idle drivers, which are started when the pool is created
+ */
+public record PoolSettings(int maxSize, @NotNull Duration maxIdle, @NotNull Duration borrowTimeout,
+                           int minIdle, int target) {
+
+    /** Default settings: up to 4 drivers, 5 minutes idle time, 60 seconds borrow timeout, no warm-up. */
+    public static final PoolSettings DEFAULT =
+            new PoolSettings(4, Duration.ofMinutes(5), Duration.ofSeconds(60));
+
+    public PoolSettings {
+        if (maxSize < 1) throw new IllegalArgumentException("The pool must hold at least one driver.");
+        if (maxIdle.isNegative() || maxIdle.isZero())
+            throw new IllegalArgumentException("The idle time of a driver must be positive.");
+        if (borrowTimeout.isNegative())
+            throw new IllegalArgumentException("The borrow timeout must not be negative.");
+        if (minIdle < 0 || minIdle > maxSize)
+            throw new IllegalArgumentException("The minimum of idle drivers must be within 0 and the maximum size.");
+        if (target < 0 || target > maxSize)
+            throw new IllegalArgumentException("The warm-up target must be within 0 and the maximum size.");
+    }
+
+    /** Settings without warm-up. */
+    public PoolSettings(int maxSize, @NotNull Duration maxIdle, @NotNull Duration borrowTimeout) {
+        this(maxSize, maxIdle, borrowTimeout, 0, 0);
+    }
+
+    public @NotNull PoolSettings withMaxSize(int maxSize) {
+        return new PoolSettings(maxSize, maxIdle, borrowTimeout, minIdle, target);
+    }
+
+    public @NotNull PoolSettings withMaxIdle(@NotNull Duration maxIdle) {
+        return new PoolSettings(maxSize, maxIdle, borrowTimeout, minIdle, target);
+    }
+
+    public @NotNull PoolSettings withBorrowTimeout(@NotNull Duration borrowTimeout) {
+        return new PoolSettings(maxSize, maxIdle, borrowTimeout, minIdle, target);
+    }
+
+    public @NotNull PoolSettings withMinIdle(int minIdle) {
+        return new PoolSettings(maxSize, maxIdle, borrowTimeout, minIdle, target);
+    }
+
+    public @NotNull PoolSettings withTarget(int target) {
+        return new PoolSettings(maxSize, maxIdle, borrowTimeout, minIdle, target);
+    }
+
+    /** @return number of idle drivers, which the warm-up starts */
+    public int warmUpSize() {
+        return Math.max(minIdle, target);
+    }
+}
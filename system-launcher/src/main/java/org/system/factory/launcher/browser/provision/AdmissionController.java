@@ -0,0 +1,210 @@
+package org.system.factory.launcher.browser.provision;
+
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Caps the count of live local browsers, so that a provisioning of many instances does not
+ * exhaust the memory or the CPUs of the machine.<br>
+ * Every start of a browser has to acquire a permit of a fair {@link Semaphore}, starts beyond the
+ * limit wait in the order of their arrival until a browser is torn down or their timeout expires.
+ * The permit is bound to the started driver and returned, when the driver is torn down or when
+ * its start fails. A driver, which is quit directly instead of being torn down by its factory, keeps
+ * its permit until a waiting start {@link #reclaim() reclaims} it: this works for drivers, whose
+ * {@link RemoteWebDriver#getSessionId() session} tells that it has ended. For all other drivers the
+ * teardown of their factory is required. By default the limit is derived from {@code MemAvailable}
+ * of {@code /proc/meminfo} and the count of CPUs; {@value #LIMIT_PROPERTY} sets it explicitly, and
+ * {@link #resize(int)} adapts it at runtime.
+ */
+public final class AdmissionController {
+
+    /** System property with the maximum count of live browsers, which replaces the derived limit. */
+    public static final String LIMIT_PROPERTY = "gsys.admission.limit";
+    /** System property with the expected memory of a single browser in megabytes. */
+    public static final String MEMORY_PROPERTY = "gsys.admission.browserMemory";
+    /** System property with the count of browsers, which may run per CPU. */
+    public static final String CPU_PROPERTY = "gsys.admission.browsersPerCpu";
+    /** System property with the time in milliseconds, a start waits for its admission. */
+    public static final String TIMEOUT_PROPERTY = "gsys.admission.timeout";
+
+    /** Default time, a start waits for its admission. */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMillis(Long.getLong(TIMEOUT_PROPERTY, 120_000L));
+
+    private static final Path MEMINFO = Paths.get("/proc/meminfo");
+    private static final long MEGABYTE = 1024L * 1024L;
+    /** Interval, in which a waiting start looks for permits of ended sessions. */
+    private static final long RECLAIM_SLICE = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private static final AdmissionController SHARED = new AdmissionController(defaultLimit());
+
+    private volatile int limit;
+    private final Permits permits;
+    private final Set<WebDriver> admitted = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    /**
+     * @param limit -> maximum count of live browsers
+     */
+    public AdmissionController(int limit) {
+        if (limit < 1) throw new IllegalArgumentException("At least one browser must be admitted.");
+        this.limit = limit;
+        this.permits = new Permits(limit);
+    }
+
+    /** Fair semaphore, whose count of permits can be reduced. */
+    private static final class Permits extends Semaphore {
+
+        private Permits(int permits) {
+            super(permits, true);
+        }
+
+        private void reduce(int reduction) {
+            reducePermits(reduction);
+        }
+    }
+
+    /**
+     * @return  controller with the {@link #defaultLimit() default limit} at class initialization, which is
+     *          shared by all factories; {@code shared().resize(defaultLimit())} derives the limit again
+     */
+    public static @NotNull AdmissionController shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return  the limit of {@value #LIMIT_PROPERTY} or the minimum of the browsers, which fit into the
+     *          available memory, and the browsers, which may run on the CPUs, both at least one
+     */
+    public static int defaultLimit() {
+        final Integer configured = Integer.getInteger(LIMIT_PROPERTY);
+        /* A limit below one could never admit a browser and would fail the shared controller */
+        if (configured != null) return Math.max(1, configured);
+
+        final int cpus = Runtime.getRuntime().availableProcessors() * Integer.getInteger(CPU_PROPERTY, 2);
+        final long browserMemory = Long.getLong(MEMORY_PROPERTY, 512L) * MEGABYTE;
+        final OptionalLong memory = availableMemory();
+        final long fitting = memory.isPresent() ? memory.getAsLong() / browserMemory : Integer.MAX_VALUE;
+        return (int) Math.max(1, Math.min(cpus, fitting));
+    }
+
+    /** @return the memory in bytes, which is available for new processes without swapping, if known */
+    public static @NotNull OptionalLong availableMemory() {
+        try (BufferedReader reader = Files.newBufferedReader(MEMINFO, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                /* MemAvailable:   12345678 kB */
+                if (!line.startsWith("MemAvailable:")) continue;
+                final String[] columns = line.trim().split("\\s+");
+                return OptionalLong.of(Long.parseLong(columns[1]) * 1024L);
+            }
+        } catch (IOException | RuntimeException e) {
+            /* Systems without proc file system are limited by their CPUs only */
+        }
+        return OptionalLong.empty();
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * Changes the maximum count of live browsers. If it is reduced below the count of running browsers,
+     * further starts wait until enough of them are torn down.
+     * @param limit -> new maximum count of live browsers
+     */
+    public synchronized void resize(int limit) {
+        if (limit < 1) throw new IllegalArgumentException("At least one browser must be admitted.");
+        final int delta = limit - this.limit;
+        if (delta > 0) permits.release(delta);
+        else if (delta < 0) permits.reduce(-delta);
+        this.limit = limit;
+    }
+
+    /** @return count of browsers, which may still be started without waiting */
+    public int available() {
+        return permits.availablePermits();
+    }
+
+    /** @return estimated count of starts, which wait for their admission */
+    public int waiting() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Waits for a permit to start a browser. The permit has to be bound to the started driver by
+     * {@link #admit(WebDriver)} or returned by {@link #release()}, if the start fails.
+     * @param timeout   maximum time to wait for the permit
+     * @throws TimeoutException     if no browser has been torn down within the timeout
+     * @throws InterruptedException if the waiting thread has been interrupted
+     */
+    public void acquire(@NotNull Duration timeout) throws TimeoutException, InterruptedException {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        long remaining = timeout.toNanos();
+        /* While waiting, the permits of drivers, which have been quit directly, are reclaimed */
+        while (!permits.tryAcquire(Math.min(remaining, RECLAIM_SLICE), TimeUnit.NANOSECONDS)) {
+            remaining = deadline - System.nanoTime();
+            if (reclaim() == 0 && remaining <= 0)
+                throw new TimeoutException("No browser was admitted within " + timeout + ", "
+                        + limit + " browsers are already running");
+        }
+    }
+
+    /**
+     * Returns the permits of all admitted drivers, whose session has ended without a teardown,
+     * like a {@link RemoteWebDriver} after a direct {@link WebDriver#quit() quit}.
+     * @return the count of returned permits
+     */
+    public int reclaim() {
+        final List<WebDriver> ended;
+        synchronized (admitted) {
+            ended = admitted.stream().filter(AdmissionController::isEnded).toList();
+        }
+        return (int) ended.stream().filter(this::release).count();
+    }
+
+    /** @return {@code true} if the session of the driver is known to have ended */
+    static boolean isEnded(@NotNull WebDriver driver) {
+        return driver instanceof RemoteWebDriver remote && remote.getSessionId() == null;
+    }
+
+    /**
+     * Binds an acquired permit to the started driver, which returns it when it is {@link #release(WebDriver) released}.
+     * @param driver    the started driver
+     */
+    public void admit(@NotNull WebDriver driver) {
+        if (!admitted.add(driver)) permits.release();
+    }
+
+    /** Returns a permit, whose browser could not be started. */
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * Returns the permit of a driver, which has been torn down. Drivers without permit, like
+     * stubs or remote sessions, and drivers, whose permit has already been returned, are ignored.
+     * @param driver    the torn down driver
+     * @return {@code true} if the permit of the driver has been returned
+     */
+    public boolean release(@NotNull WebDriver driver) {
+        if (!admitted.remove(driver)) return false;
+        permits.release();
+        return true;
+    }
+}
@@ -0,0 +1,145 @@
+package org.system.factory.launcher.browser.provision;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.system.factory.launcher.browser.plattform.SystemExplorer.LOGGER;
+
+/**
+ * Starts several instances in parallel on a dedicated, bounded executor.<br>
+ * The start of a browser mostly waits for I/O, so it is not carried out on the common
+ * {@link ForkJoinPool}, whose parallelism is sized to the CPUs and which is shared with
+ * every other parallel stream of the JVM. The duration of a provisioning is roughly the
+ * duration of the slowest start, limited by a total timeout.
+ */
+public final class DriverProvisioner {
+
+    /** Default count of instances, which are started at the same time. */
+    public static final int DEFAULT_CONCURRENCY = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    /** Default time, in which all instances of a provisioning have to be started. */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(5);
+
+    private DriverProvisioner() {
+        //None content...
+    }
+
+    /**
+     * Creates the given count of instances in parallel.<br>
+     * A start, which is still running when the timeout expires, is interrupted. If it finishes
+     * nevertheless, its instance is not part of the result anymore and handed to the discard instead,
+     * so it is never lost.
+     *
+     * @param count         count of instances
+     * @param concurrency   maximum count of instances, which are started at the same time
+     * @param timeout       total time for the creation of all instances. Starts, which are not
+     *                      finished in time, are reported as {@link TimeoutException}
+     * @param factory       creation of a single instance
+     * @param discard       disposal of the instances, which have been created after the timeout
+     * @param <T>           type of the instances
+     * @return  the created instances and the failures of the remaining ones
+     */
+    public static <T> @NotNull ProvisionResult<T> provision(int count, int concurrency, @NotNull Duration timeout,
+                                                            @NotNull Callable<? extends T> factory,
+                                                            @NotNull Consumer<? super T> discard) {
+        if (count < 0) throw new IllegalArgumentException("The count of instances must not be negative.");
+        if (concurrency < 1) throw new IllegalArgumentException("At least one instance must be started at once.");
+        if (count == 0) return new ProvisionResult<>(List.of(), List.of());
+
+        final int threads = Math.min(count, concurrency);
+        final ExecutorService executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new ThreadFactoryBuilder()
+                .setNameFormat("gsys-provision-%d").setDaemon(true).build());
+
+        final CountDownLatch finished = new CountDownLatch(count);
+        final List<Start<T>> starts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) starts.add(new Start<>(factory, discard, finished));
+
+        final List<T> drivers = new ArrayList<>(count);
+        final List<Throwable> failures = new ArrayList<>();
+        Throwable abort = null;
+        try {
+            starts.forEach(executor::execute);
+            if (!finished.await(timeout.toNanos(), TimeUnit.NANOSECONDS))
+                abort = new TimeoutException("Instance was not started within " + timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort = e;
+        } finally {
+            /* Starts, which are still pending, are abandoned before their threads are interrupted */
+            for (Start<T> start : starts) {
+                final Start.Done<T> done = start.collect();
+                if (done == null) failures.add(abort);
+                else if (done.failure() != null) failures.add(done.failure());
+                else drivers.add(done.instance());
+            }
+            executor.shutdownNow();
+        }
+        return new ProvisionResult<>(drivers, failures);
+    }
+
+    /**
+     * Single start, whose instance is taken either by the provisioning or, once the provisioning
+     * has abandoned it, by the discard.
+     */
+    private static final class Start<T> implements Runnable {
+
+        private static final Object PENDING = new Object(), ABANDONED = new Object();
+
+        private final Callable<? extends T> factory;
+        private final Consumer<? super T> discard;
+        private final CountDownLatch finished;
+        private final AtomicReference<Object> state = new AtomicReference<>(PENDING);
+
+        /**
+         * @param instance  the created instance, {@code null} if the start has failed
+         * @param failure   cause of the failed start
+         */
+        private record Done<T>(T instance, Throwable failure) {
+            //None content...
+        }
+
+        private Start(Callable<? extends T> factory, Consumer<? super T> discard, CountDownLatch finished) {
+            this.factory = factory;
+            this.discard = discard;
+            this.finished = finished;
+        }
+
+        @Override public void run() {
+            Done<T> done;
+            try {
+                done = new Done<>(factory.call(), null);
+            } catch (Throwable e) {
+                done = new Done<>(null, e);
+            }
+            if (!state.compareAndSet(PENDING, done) && done.instance() != null) discard(done.instance());
+            finished.countDown();
+        }
+
+        /** @return the outcome of the start or {@code null}, if it is still running and abandoned now */
+        @SuppressWarnings("unchecked")
+        Done<T> collect() {
+            final Object outcome = state.getAndSet(ABANDONED);
+            return outcome == PENDING ? null : (Done<T>) outcome;
+        }
+
+        private void discard(T instance) {
+            /* The interrupt of the abandoned start must not abort the disposal of its instance */
+            final boolean interrupted = Thread.interrupted();
+            try {
+                discard.accept(instance);
+            } catch (RuntimeException e) {
+                LOGGER.warn("instance [{}], which has been started too late, could not be discarded: {}",
+                        instance, e.getMessage());
+            } finally {
+                if (interrupted) Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
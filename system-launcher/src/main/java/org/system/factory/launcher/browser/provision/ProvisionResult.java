@@ -0,0 +1,41 @@
+package org.system.factory.launcher.browser.provision;
+
+import org.jetbrains.annotations.NotNull;
+import org.system.factory.launcher.browser.err.ProvisionException;
+
+import java.util.List;
+
+/**
+ * Result of a parallel provisioning, which contains the successfully
+ * created instances as well as the failures of the remaining ones.
+ *
+ * @param drivers   the created instances
+ * @param failures  causes of the instances, which could not be created in time
+ * @param <T>       type of the created instances
+ */
+public record ProvisionResult<T>(@NotNull List<T> drivers, @NotNull List<Throwable> failures) {
+
+    public ProvisionResult {
+        drivers = List.copyOf(drivers);
+        failures = List.copyOf(failures);
+    }
+
+    /** @return {@code true} if all requested instances have been created */
+    public boolean isComplete() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * @return  the created instances, if all requested instances have been created
+     * @throws ProvisionException a new exception on every call, whose cause is the first failure,
+     *                            all further failures are attached as suppressed
+     */
+    public @NotNull List<T> getOrThrow() throws ProvisionException {
+        if (isComplete()) return drivers;
+
+        final ProvisionException exception = new ProvisionException(failures.size(),
+                drivers.size() + failures.size(), failures.get(0));
+        failures.stream().skip(1).forEach(exception::addSuppressed);
+        throw exception;
+    }
+}
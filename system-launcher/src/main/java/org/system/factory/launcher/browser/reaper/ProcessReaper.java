@@ -0,0 +1,299 @@
+package org.system.factory.launcher.browser.reaper;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.commons.io.FileUtils;
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.WebDriver;
+import org.system.factory.launcher.browser.plattform.SystemExplorer;
+import org.system.factory.launcher.browser.teardown.DriverTeardown;
+import org.system.factory.launcher.utils.proc.ProcessInfo;
+import org.system.factory.launcher.utils.proc.ProcessTable;
+import org.system.factory.launcher.utils.proc.SocketInventory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.Pattern;
+
+import static org.system.factory.launcher.browser.plattform.SystemExplorer.LOGGER;
+
+/**
+ * Reaper of driver and browser processes, which have survived their JVM.<br>
+ * The processes of every driver are recorded in a journal file per factory, together with the JVM
+ * owning the factory and the files of the {@link SystemExplorer#tmpPath temporary folder}, which are
+ * named on their command lines, like browser profiles. Processes are identified by their pid and
+ * start instant, so a reused pid is never mistaken for a recorded process. A reap kills the recorded
+ * process trees of all journals, whose owner is not alive anymore, and removes their recorded files;
+ * files of other users of the temporary folder are never touched.<br>
+ * Drivers are journaled in the background, so their creation never waits for the process table.
+ * The {@link #shared() shared reaper} reaps once on startup and then periodically.
+ */
+public final class ProcessReaper {
+
+    /** Directory of the journal files. */
+    public static final String JOURNAL_PROPERTY = "gsys.reaper.journal";
+    /** Period of the reaping in milliseconds, a value {@code <= 0} reaps on startup only. */
+    public static final String PERIOD_PROPERTY = "gsys.reaper.period";
+
+    private static final String SUFFIX = ".journal";
+    private static final String OWNER = "owner";
+    private static final String FILE = "file ";
+    /** Separators of the arguments on a command line, including the one of {@code --option=value}. */
+    private static final Pattern ARGUMENTS = Pattern.compile("[\\s=]+");
+
+    private final Path journal;
+    private final Path tmp;
+    private final Entry owner = Entry.of(ProcessHandle.current());
+    /** Single background thread, which keeps the journal entries of a factory in order. */
+    private final ExecutorService journaling = new ThreadPoolExecutor(0, 1, 30L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setNameFormat("gsys-journal-%d").setDaemon(true).build());
+
+    /**
+     * @param journal   directory of the journal files
+     * @param tmp       temporary folder of the browsers and drivers
+     */
+    public ProcessReaper(@NotNull Path journal, @NotNull Path tmp) {
+        this.journal = journal;
+        this.tmp = tmp.toAbsolutePath().normalize();
+    }
+
+    /** @return the reaper of this JVM, which reaps on startup and periodically */
+    public static @NotNull ProcessReaper shared() {
+        return Shared.REAPER;
+    }
+
+    private static final class Shared {
+        private static final ProcessReaper REAPER = start(new ProcessReaper(journalDirectory(), Paths.get(SystemExplorer.tmpPath)),
+                Duration.ofMillis(Long.getLong(PERIOD_PROPERTY, TimeUnit.MINUTES.toMillis(10))));
+    }
+
+    /** @return the directory of the journal files, configured by {@value #JOURNAL_PROPERTY} */
+    public static @NotNull Path journalDirectory() {
+        final String path = System.getProperty(JOURNAL_PROPERTY);
+        return path != null ? Paths.get(path)
+                : Paths.get(System.getProperty("user.home"), ".cache", "gsys", "journal");
+    }
+
+    /**
+     * Result of a reap.
+     * @param processes count of process trees, which have been killed
+     * @param files     count of recorded temporary files, which have been removed
+     */
+    public record Reaped(int processes, int files) {
+        //None content...
+    }
+
+    /**
+     * Records the local driver service of the driver together with its descendants, the browser included,
+     * in the background. Drivers are only journaled, where the {@link SocketInventory socket tables} can be
+     * read, since their service is found by its port; failures are logged and never reach the caller.
+     * @param factoryId -> id of the factory of the driver
+     * @param driver    -> the created driver
+     */
+    public void record(long factoryId, @NotNull WebDriver driver) {
+        if (!SocketInventory.isSupported()) return;
+        journal(() -> {
+            final List<ProcessHandle> processes = new ArrayList<>();
+            final Set<Path> files = new LinkedHashSet<>();
+            for (ProcessInfo service : DriverTeardown.services(driver)) {
+                final List<ProcessInfo> tree = new ArrayList<>(List.of(service));
+                tree.addAll(ProcessTable.shared().descendants(service.pid()));
+                for (ProcessInfo process : tree) {
+                    ProcessHandle.of(process.pid()).ifPresent(processes::add);
+                    files.addAll(temporaryFiles(process.command()));
+                }
+            }
+            record(factoryId, processes, files);
+        }, "processes of factory [" + factoryId + "] could not be recorded");
+    }
+
+    /**
+     * @param factoryId -> id of the factory, which has started the processes
+     * @param processes -> processes to record
+     */
+    public void record(long factoryId, @NotNull Collection<ProcessHandle> processes) {
+        record(factoryId, processes, List.of());
+    }
+
+    /**
+     * @param factoryId -> id of the factory, which has started the processes
+     * @param processes -> processes to record
+     * @param files     -> files of the temporary folder, which are used by the processes
+     */
+    public synchronized void record(long factoryId, @NotNull Collection<ProcessHandle> processes,
+                                    @NotNull Collection<Path> files) {
+        if (processes.isEmpty() && files.isEmpty()) return;
+        final Path file = file(factoryId);
+        final StringBuilder lines = new StringBuilder();
+        if (!Files.exists(file)) lines.append(OWNER).append(' ').append(owner).append('\n');
+        processes.forEach(process -> lines.append(Entry.of(process)).append('\n'));
+        files.forEach(path -> lines.append(FILE).append(path.toAbsolutePath()).append('\n'));
+        try {
+            Files.createDirectories(journal);
+            Files.writeString(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOGGER.warn("processes of factory [{}] could not be recorded: {}", factoryId, e.getMessage());
+        }
+    }
+
+    /**
+     * @param command   -> command line of a driver or browser process
+     * @return the entries of the temporary folder, which are named on the command line, like the profile of a browser
+     */
+    public @NotNull Set<Path> temporaryFiles(@NotNull String command) {
+        final Set<Path> files = new LinkedHashSet<>();
+        for (String argument : ARGUMENTS.split(command)) {
+            final Path path;
+            try {
+                path = Paths.get(argument);
+            } catch (InvalidPathException e) {
+                continue;
+            }
+            if (path.isAbsolute() && isTemporary(path)) files.add(tmp.resolve(tmp.relativize(path.normalize()).getName(0)));
+        }
+        return files;
+    }
+
+    /**
+     * Removes the journal of a factory, whose drivers have been torn down. The removal is queued
+     * behind the recordings of the factory, which are still running in the background.
+     * @param factoryId -> id of the factory
+     */
+    public void forget(long factoryId) {
+        journal(() -> {
+            synchronized (this) {
+                Files.deleteIfExists(file(factoryId));
+            }
+        }, "journal of factory [" + factoryId + "] could not be removed");
+    }
+
+    /**
+     * Kills the recorded process trees of all journals, whose owner is not alive anymore,
+     * and removes the temporary files recorded in these journals.
+     * @return  the count of killed process trees and removed files
+     */
+    public synchronized @NotNull Reaped reap() {
+        int processes = 0, files = 0;
+        if (Files.isDirectory(journal)) {
+            try (DirectoryStream<Path> journals = Files.newDirectoryStream(journal, "*" + SUFFIX)) {
+                for (Path file : journals) {
+                    final List<String> lines = readQuietly(file);
+                    final Entry owner = lines.isEmpty() ? null : Entry.parse(lines.get(0).substring(OWNER.length()));
+                    if (owner != null && owner.isAlive()) continue;
+
+                    /* The processes are killed first, so they do not hold their files anymore */
+                    final List<Path> recorded = new ArrayList<>();
+                    for (String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+                        if (line.startsWith(FILE)) {
+                            recorded.add(Paths.get(line.substring(FILE.length())));
+                            continue;
+                        }
+                        final Entry entry = Entry.parse(line);
+                        if (entry != null && entry.handle().map(DriverTeardown::destroyTree).orElse(false)) processes++;
+                    }
+                    for (Path path : recorded) {
+                        /* Only entries of the temporary folder are removed, whatever the journal contains */
+                        if (isTemporary(path) && Files.exists(path) && FileUtils.deleteQuietly(path.toFile())) files++;
+                    }
+                    Files.deleteIfExists(file);
+                }
+            } catch (IOException | InvalidPathException e) {
+                LOGGER.warn("journals could not be reaped: {}", e.getMessage());
+            }
+        }
+        final Reaped reaped = new Reaped(processes, files);
+        if (reaped.processes() > 0 || reaped.files() > 0) LOGGER.info("orphans are reaped: {}", reaped);
+        return reaped;
+    }
+
+    /** @return {@code true} if the path lies within the temporary folder, not being the folder itself */
+    private boolean isTemporary(Path path) {
+        final Path normalized = path.toAbsolutePath().normalize();
+        return normalized.startsWith(tmp) && !normalized.equals(tmp);
+    }
+
+    /** Runs an action on the journaling thread, its failures are logged only. */
+    private void journal(IOAction action, String failure) {
+        try {
+            journaling.execute(() -> {
+                try {
+                    action.run();
+                } catch (IOException | RuntimeException e) {
+                    LOGGER.warn("{}: {}", failure, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOGGER.warn("{}: {}", failure, e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOAction {
+        void run() throws IOException;
+    }
+
+    private Path file(long factoryId) {
+        return journal.resolve(owner.pid() + "-" + Long.toUnsignedString(factoryId) + SUFFIX);
+    }
+
+    private static List<String> readQuietly(Path file) {
+        try {
+            return Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+
+    private static ProcessReaper start(ProcessReaper reaper, Duration period) {
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("gsys-reaper-%d").setDaemon(true).build());
+        final Runnable reap = () -> {
+            try {
+                reaper.reap();
+            } catch (RuntimeException e) {
+                LOGGER.warn("orphans could not be reaped: {}", e.getMessage());
+            }
+        };
+        if (period.isNegative() || period.isZero()) scheduler.execute(reap);
+        else scheduler.scheduleWithFixedDelay(reap, 0, period.toMillis(), TimeUnit.MILLISECONDS);
+        return reaper;
+    }
+
+    /**
+     * Recorded process.
+     * @param pid   -> process id
+     * @param start -> start instant of the process in epoch milliseconds, {@code -1} if unknown
+     */
+    private record Entry(long pid, long start) {
+
+        static Entry of(ProcessHandle process) {
+            return new Entry(process.pid(), process.info().startInstant().map(Instant::toEpochMilli).orElse(-1L));
+        }
+
+        static Entry parse(String line) {
+            final String[] columns = line.trim().split(" ");
+            try {
+                return columns.length == 2 ? new Entry(Long.parseLong(columns[0]), Long.parseLong(columns[1])) : null;
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        /** @return the living process, whose start instant matches the recorded one */
+        Optional<ProcessHandle> handle() {
+            return ProcessHandle.of(pid).filter(ProcessHandle::isAlive).filter(process -> of(process).start() == start);
+        }
+
+        boolean isAlive() {
+            return handle().isPresent();
+        }
+
+        @Override public String toString() {
+            return pid + " " + start;
+        }
+    }
+}
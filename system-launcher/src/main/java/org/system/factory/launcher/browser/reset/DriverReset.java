@@ -0,0 +1,108 @@
+package org.system.factory.launcher.browser.reset;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.system.factory.launcher.browser.metrics.DriverMetrics;
+import org.system.factory.launcher.browser.metrics.Phase;
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.system.factory.launcher.browser.plattform.SystemExplorer.LOGGER;
+
+/**
+ * Clears the state of a browser session, so the driver can be reused by the next test
+ * instead of being quit and started again.<br>
+ * All windows but one are closed, the cookies and the web storage are deleted and the remaining
+ * window navigates to {@code about:blank}. Chromium based browsers delete the cookies of all
+ * domains through the DevTools protocol, other browsers the cookies of the current domain only.
+ * The reset runs within a bounded time; a driver, whose reset fails or times out, has to be discarded.
+ */
+public final class DriverReset {
+
+    /** Time in milliseconds, within which a driver has to be reset. */
+    public static final String TIMEOUT_PROPERTY = "gsys.driver.reset.timeout";
+    /** Time, within which a driver has to be reset, if {@value #TIMEOUT_PROPERTY} is not set. */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    private static final String BLANK = "about:blank";
+    private static final String CLEAR_STORAGE =
+            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) { /* opaque origin */ }";
+
+    private static final ExecutorService RESETTERS = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("gsys-reset-%d").setDaemon(true).build());
+
+    private DriverReset() {
+        //None content...
+    }
+
+    /** @return the time of {@value #TIMEOUT_PROPERTY}, which is read on every call, or {@link #DEFAULT_TIMEOUT} */
+    public static @NotNull Duration defaultTimeout() {
+        return Duration.ofMillis(Long.getLong(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT.toMillis()));
+    }
+
+    /**
+     * @param driver    driver to reset
+     * @param timeout   time, within which the driver has to be reset
+     * @return  {@code true} if the driver has been reset, {@code false} if it has to be discarded
+     */
+    public static boolean reset(@NotNull WebDriver driver, @NotNull Duration timeout) {
+        return reset(driver, null, timeout);
+    }
+
+    /**
+     * @param driver    driver to reset
+     * @param instance  browser of the driver, under which the latency is recorded
+     * @param timeout   time, within which the driver has to be reset
+     * @return  {@code true} if the driver has been reset, {@code false} if it has to be discarded
+     */
+    public static boolean reset(@NotNull WebDriver driver, @Nullable DriverInstance instance, @NotNull Duration timeout) {
+        final long start = System.nanoTime();
+        final boolean reset = await(driver, timeout);
+        DriverMetrics.record(Phase.RESET, instance, start, reset);
+        return reset;
+    }
+
+    private static boolean await(WebDriver driver, Duration timeout) {
+        final Future<?> reset = RESETTERS.submit(() -> clear(driver));
+        try {
+            reset.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            reset.cancel(true);
+            LOGGER.warn("driver [{}] could not be reset within {}", driver, timeout);
+        } catch (ExecutionException e) {
+            LOGGER.warn("driver [{}] could not be reset: {}", driver, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            reset.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    private static void clear(WebDriver driver) {
+        final Set<String> windows = driver.getWindowHandles();
+        String current = driver.getWindowHandle();
+        if (current == null || !windows.contains(current)) current = windows.iterator().next();
+        for (String window : windows) {
+            if (window.equals(current)) continue;
+            driver.switchTo().window(window);
+            driver.close();
+        }
+        if (windows.size() > 1) driver.switchTo().window(current);
+
+        /* The storage belongs to the origin of the current page, so it is cleared before leaving it */
+        if (driver instanceof JavascriptExecutor executor) executor.executeScript(CLEAR_STORAGE);
+        if (driver instanceof ChromiumDriver chromium) chromium.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        else driver.manage().deleteAllCookies();
+
+        driver.get(BLANK);
+    }
+}
@@ -0,0 +1,160 @@
+package org.system.factory.launcher.browser.resolve;
+
+import lombok.SneakyThrows;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Instantiation of the web-drivers of a {@link DriverInstance}.<br>
+ * The constructor of a browser class is looked up once and cached as {@link MethodHandle},
+ * so that the creation of a driver is a direct call instead of a {@link Class#forName(String)}
+ * lookup and a reflective constructor call. In addition, own factories can be registered per
+ * instance, for instance for a local stub in tests. Typed {@link Capabilities options} are passed
+ * to the constructor of the browser class, which takes the class of the options.
+ */
+public final class DriverConstructors {
+
+    private static final MethodType CONSTRUCTOR = MethodType.methodType(WebDriver.class);
+    private static final MethodType OPTIONS_CONSTRUCTOR = MethodType.methodType(WebDriver.class, Capabilities.class);
+
+    private static final Map<String, Supplier<WebDriver>> CONSTRUCTORS = new ConcurrentHashMap<>();
+    private static final Map<String, MethodHandle> OPTIONS_CONSTRUCTORS = new ConcurrentHashMap<>();
+    private static final Map<DriverInstance, Registration> REGISTRATIONS = new ConcurrentHashMap<>();
+
+    /**
+     * Own factory of an instance.
+     * @param factory   creates the drivers of the instance
+     * @param resolve   whether the driver binary has to be {@link DriverResolver resolved} beforehand
+     */
+    public record Registration(@NotNull Supplier<? extends WebDriver> factory, boolean resolve) {
+        //None content...
+    }
+
+    private DriverConstructors() {
+        //None content...
+    }
+
+    /**
+     * Registers an own factory, which creates the drivers of the instance
+     * after its driver binary has been {@link DriverResolver#resolve(DriverInstance) resolved}.
+     * @param instance  driver instance
+     * @param factory   creates the drivers of the instance
+     */
+    public static void register(@NotNull DriverInstance instance, @NotNull Supplier<? extends WebDriver> factory) {
+        register(instance, factory, true);
+    }
+
+    /**
+     * Registers an own factory, which creates the drivers of the instance.
+     * @param instance  driver instance
+     * @param factory   creates the drivers of the instance
+     * @param resolve   {@code false} if the factory does not need a driver binary, like a local stub
+     */
+    public static void register(@NotNull DriverInstance instance, @NotNull Supplier<? extends WebDriver> factory,
+                                boolean resolve) {
+        REGISTRATIONS.put(instance, new Registration(factory, resolve));
+    }
+
+    /**
+     * Removes the own factory of an instance, so that the browser class is used again.
+     * @param instance  driver instance
+     */
+    public static void unregister(@NotNull DriverInstance instance) {
+        REGISTRATIONS.remove(instance);
+    }
+
+    /**
+     * @param instance  driver instance
+     * @return  the own factory of the instance or {@code null} if the browser class is used
+     */
+    public static @Nullable Registration registration(@NotNull DriverInstance instance) {
+        return REGISTRATIONS.get(instance);
+    }
+
+    /**
+     * @param resolution    the resolved driver instance
+     * @return  a factory, which calls the no-arg constructor of the resolved browser class
+     */
+    public static @NotNull Supplier<WebDriver> constructor(@NotNull DriverResolution resolution)
+            throws ReflectiveOperationException {
+        return constructor(resolution.browserClass());
+    }
+
+    /**
+     * @param browserClass  name of a web-driver class with a public no-arg constructor
+     * @return  a factory, which calls the constructor via a cached {@link MethodHandle}
+     */
+    public static @NotNull Supplier<WebDriver> constructor(@NotNull String browserClass)
+            throws ReflectiveOperationException {
+        final Supplier<WebDriver> cached = CONSTRUCTORS.get(browserClass);
+        if (cached != null) return cached;
+
+        final MethodHandle handle = MethodHandles.publicLookup()
+                .findConstructor(Class.forName(browserClass), MethodType.methodType(void.class))
+                .asType(CONSTRUCTOR);
+        final Supplier<WebDriver> constructor = () -> invoke(handle);
+        final Supplier<WebDriver> previous = CONSTRUCTORS.putIfAbsent(browserClass, constructor);
+        return previous != null ? previous : constructor;
+    }
+
+    /**
+     * @param resolution    the resolved driver instance
+     * @param options       options of the browser
+     * @return  a factory, which passes the options to the constructor of the resolved browser class
+     */
+    public static @NotNull Supplier<WebDriver> constructor(@NotNull DriverResolution resolution,
+                                                           @NotNull Capabilities options)
+            throws ReflectiveOperationException {
+        return constructor(resolution.browserClass(), options);
+    }
+
+    /**
+     * @param browserClass  name of a web-driver class with a public constructor, which takes the class of the options
+     * @param options       options of the browser, like {@code ChromeOptions} for the {@code ChromeDriver}
+     * @return  a factory, which calls the constructor via a cached {@link MethodHandle}
+     */
+    public static @NotNull Supplier<WebDriver> constructor(@NotNull String browserClass, @NotNull Capabilities options)
+            throws ReflectiveOperationException {
+        final String key = browserClass + '(' + options.getClass().getName() + ')';
+        MethodHandle handle = OPTIONS_CONSTRUCTORS.get(key);
+        if (handle == null) {
+            handle = MethodHandles.publicLookup()
+                    .findConstructor(Class.forName(browserClass), MethodType.methodType(void.class, options.getClass()))
+                    .asType(OPTIONS_CONSTRUCTOR);
+            OPTIONS_CONSTRUCTORS.putIfAbsent(key, handle);
+        }
+        final MethodHandle constructor = handle;
+        return () -> invoke(constructor, options);
+    }
+
+    /**
+     * @param server    URL of the remote Selenium server
+     * @param options   options of the browser, which select the browser on the server
+     * @return  a factory, which starts the browsers on the server instead of locally
+     */
+    public static @NotNull Supplier<WebDriver> remote(@NotNull URL server, @NotNull Capabilities options) {
+        return () -> new RemoteWebDriver(server, options);
+    }
+
+    @SneakyThrows
+    private static WebDriver invoke(MethodHandle handle) {
+        return (WebDriver) handle.invokeExact();
+    }
+
+    @SneakyThrows
+    private static WebDriver invoke(MethodHandle handle, Capabilities options) {
+        return (WebDriver) handle.invokeExact(options);
+    }
+}
@@ -0,0 +1,25 @@
+package org.system.factory.launcher.browser.resolve;
+
+import org.jetbrains.annotations.NotNull;
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+
+import java.nio.file.Path;
+
+/**
+ * Result of the driver resolution of a {@link DriverInstance}, which is shared by all threads.
+ *
+ * @param instance      the resolved driver instance
+ * @param driverPath    path of the installed driver binary
+ * @param driverVersion version of the installed driver binary
+ * @param browserClass  name of the selenium class, which starts the browser
+ * @param exportKey     system property, which announces the driver binary to selenium
+ */
+public record DriverResolution(@NotNull DriverInstance instance, @NotNull Path driverPath,
+                               @NotNull String driverVersion, @NotNull String browserClass,
+                               @NotNull String exportKey) {
+
+    /** Announces the driver binary to selenium, as it is done by the WebDriverManager. */
+    void export() {
+        System.setProperty(exportKey, driverPath.toString());
+    }
+}
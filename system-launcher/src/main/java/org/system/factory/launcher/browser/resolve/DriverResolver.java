@@ -0,0 +1,209 @@
+package org.system.factory.launcher.browser.resolve;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.github.bonigarcia.wdm.config.DriverManagerType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+import org.system.factory.launcher.browser.metrics.DriverMetrics;
+import org.system.factory.launcher.browser.metrics.Phase;
+import org.system.factory.launcher.browser.plattform.SystemExplorer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the driver binary of a {@link DriverInstance} once per process.<br>
+ * The first resolution runs the {@link WebDriverManager} setup and persists the result into
+ * a stable cache directory. Later resolutions, also of further JVMs, are answered from memory
+ * or from this directory without any version lookup or download, so runs against a
+ * pre-populated cache also work offline.
+ */
+public final class DriverResolver {
+
+    /** System property to overwrite the {@link #cacheDirectory() cache directory}. */
+    public static final String CACHE_PROPERTY = "gsys.driver.cache";
+
+    private static final String DRIVER_PATH = "driver.path";
+    private static final String DRIVER_VERSION = "driver.version";
+    private static final String BROWSER_CLASS = "browser.class";
+    private static final String EXPORT_KEY = "export.key";
+
+    private static final Map<DriverInstance, CompletableFuture<DriverResolution>> RESOLUTIONS = new ConcurrentHashMap<>();
+
+    private DriverResolver() {
+        //None content...
+    }
+
+    /**
+     * @param instance  driver instance to resolve
+     * @return  the resolution of the instance, whose driver binary is exported to selenium
+     */
+    public static @NotNull DriverResolution resolve(@NotNull DriverInstance instance) {
+        final DriverResolution resolution = pending(instance);
+        resolution.export();
+        return resolution;
+    }
+
+    /**
+     * Drops the resolution of an instance from memory and disk, for instance after a browser update,
+     * so that the next {@link #resolve(DriverInstance) resolution} runs the setup again.
+     * @param instance  driver instance to invalidate
+     */
+    public static void invalidate(@NotNull DriverInstance instance) {
+        RESOLUTIONS.remove(instance);
+        try {
+            Files.deleteIfExists(entry(instance));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** @return directory, in which the driver binaries and their resolutions are stored */
+    public static @NotNull Path cacheDirectory() {
+        final String path = System.getProperty(CACHE_PROPERTY);
+        return path != null ? Paths.get(path)
+                : Paths.get(System.getProperty("user.home"), ".cache", "gsys", "drivers");
+    }
+
+    /**
+     * @param instance  driver instance
+     * @return  the driver manager type, which installs the driver of the instance
+     */
+    public static @NotNull DriverManagerType managerType(@NotNull DriverInstance instance) {
+        return switch (instance) {
+            case EDGE, MSEDGE -> DriverManagerType.EDGE;
+            default -> DriverManagerType.valueOf(instance.name());
+        };
+    }
+
+    /**
+     * The first caller of an instance publishes a future and resolves it outside of the map, so a download
+     * never blocks the map bin and with it the resolution of other instances. Further callers of the same
+     * instance wait for this future. A failed resolution is removed again, so that the next call retries.
+     */
+    private static DriverResolution pending(DriverInstance instance) {
+        CompletableFuture<DriverResolution> pending = RESOLUTIONS.get(instance);
+        if (pending == null) {
+            final CompletableFuture<DriverResolution> created = new CompletableFuture<>();
+            pending = RESOLUTIONS.putIfAbsent(instance, created);
+            if (pending == null) {
+                try {
+                    final DriverResolution resolution = load(instance);
+                    created.complete(resolution);
+                    return resolution;
+                } catch (RuntimeException | Error e) {
+                    RESOLUTIONS.remove(instance, created);
+                    created.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private static DriverResolution load(DriverInstance instance) {
+        final long start = System.nanoTime();
+        boolean success = false;
+        try {
+            final DriverResolution resolution = install(instance);
+            success = true;
+            return resolution;
+        } finally {
+            DriverMetrics.record(Phase.RESOLVE, instance, start, success);
+        }
+    }
+
+    private static DriverResolution install(DriverInstance instance) {
+        final DriverResolution stored = read(instance);
+        if (stored != null) {
+            SystemExplorer.LOGGER.info("driver of {} is resolved from cache {}", instance, stored.driverPath());
+            return stored;
+        }
+
+        SystemExplorer.LOGGER.info("manage web driver components and install feature of {}", instance);
+        final DriverManagerType type = managerType(instance);
+        final WebDriverManager manage = WebDriverManager.getInstance(type);
+        manage.cachePath(cacheDirectory().toString()).setup();
+
+        final DriverResolution resolution = new DriverResolution(instance,
+                Paths.get(manage.getDownloadedDriverPath()), manage.getDownloadedDriverVersion(),
+                type.browserClass(), exportKey(type));
+        write(resolution);
+        return resolution;
+    }
+
+    private static @Nullable DriverResolution read(DriverInstance instance) {
+        final Path entry = entry(instance);
+        if (!Files.isRegularFile(entry)) return null;
+
+        final Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(entry)) {
+            properties.load(in);
+        } catch (IOException e) {
+            SystemExplorer.LOGGER.warn("resolution cache {} is not readable: {}", entry, e.getMessage());
+            return null;
+        }
+
+        final String path = properties.getProperty(DRIVER_PATH);
+        /* A removed driver binary invalidates the entry */
+        if (path == null || !Files.isExecutable(Paths.get(path))) return null;
+
+        return new DriverResolution(instance, Paths.get(path), properties.getProperty(DRIVER_VERSION, ""),
+                properties.getProperty(BROWSER_CLASS, managerType(instance).browserClass()),
+                properties.getProperty(EXPORT_KEY, exportKey(managerType(instance))));
+    }
+
+    private static void write(DriverResolution resolution) {
+        final Properties properties = new Properties();
+        properties.setProperty(DRIVER_PATH, resolution.driverPath().toAbsolutePath().toString());
+        properties.setProperty(DRIVER_VERSION, resolution.driverVersion());
+        properties.setProperty(BROWSER_CLASS, resolution.browserClass());
+        properties.setProperty(EXPORT_KEY, resolution.exportKey());
+
+        final Path entry = entry(resolution.instance());
+        try {
+            Files.createDirectories(entry.getParent());
+            /* Written beside and moved afterwards, so that parallel JVMs never read a half entry */
+            final Path tmp = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                properties.store(out, "driver resolution of " + resolution.instance());
+            }
+            Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            SystemExplorer.LOGGER.warn("resolution of {} could not be stored: {}",
+                    resolution.instance(), e.getMessage());
+        }
+    }
+
+    private static Path entry(DriverInstance instance) {
+        return cacheDirectory().resolve(instance.name().toLowerCase() + ".properties");
+    }
+
+    private static String exportKey(DriverManagerType type) {
+        return switch (type) {
+            case CHROME, CHROMIUM -> "webdriver.chrome.driver";
+            case FIREFOX -> "webdriver.gecko.driver";
+            case EDGE -> "webdriver.edge.driver";
+            case IEXPLORER -> "webdriver.ie.driver";
+            case OPERA -> "webdriver.opera.driver";
+            case SAFARI -> "webdriver.safari.driver";
+        };
+    }
+}
@@ -0,0 +1,240 @@
+package org.system.factory.launcher.browser.teardown;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.system.factory.launcher.browser.metrics.DriverMetrics;
+import org.system.factory.launcher.browser.metrics.Phase;
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+import org.system.factory.launcher.browser.provision.AdmissionController;
+import org.system.factory.launcher.browser.provision.DriverProvisioner;
+import org.system.factory.launcher.utils.proc.ProcessInfo;
+import org.system.factory.launcher.utils.proc.ProcessTable;
+
+import java.net.InetAddress;
+import java.net.URL;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.system.factory.launcher.browser.plattform.SystemExplorer.LOGGER;
+
+/**
+ * Quits several drivers in parallel on a dedicated, bounded executor.<br>
+ * Every quit is watched by a timeout. If the quit does not return in time or fails, the process
+ * tree of the local driver service is killed: the service is the descendant of this JVM, which
+ * has been started with the port of the driver, and the browser is a descendant of the service.
+ * Killing the service also makes a hanging quit return, so the duration of a teardown is
+ * roughly the duration of the slowest quit, limited by the timeout.
+ */
+public final class DriverTeardown {
+
+    /** Time in milliseconds, within which a single driver has to be quit. */
+    public static final String QUIT_TIMEOUT_PROPERTY = "gsys.driver.quit.timeout";
+    /** Default time, within which a single driver has to be quit. */
+    public static final Duration DEFAULT_QUIT_TIMEOUT = Duration.ofMillis(Long.getLong(QUIT_TIMEOUT_PROPERTY, 10_000L));
+
+    private static final ScheduledExecutorService WATCHDOG = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("gsys-teardown-watchdog-%d").setDaemon(true).build());
+
+    private DriverTeardown() {
+        //None content...
+    }
+
+    /**
+     * Quits the given drivers with the default concurrency and timeout.
+     * @see #teardown(Collection, int, Duration)
+     */
+    public static @NotNull TeardownReport teardown(@NotNull Collection<? extends WebDriver> drivers) {
+        return teardown(drivers, DriverProvisioner.DEFAULT_CONCURRENCY, DEFAULT_QUIT_TIMEOUT);
+    }
+
+    /**
+     * Quits the given drivers of a browser with the default concurrency and timeout and records
+     * the latency of every driver and the closed sessions in the {@link DriverMetrics metrics}.
+     * @see #teardown(Collection, int, Duration)
+     */
+    public static @NotNull TeardownReport teardown(@NotNull DriverInstance instance,
+                                                   @NotNull Collection<? extends WebDriver> drivers) {
+        final TeardownReport report = teardown(drivers);
+        DriverMetrics.sessions(instance, -drivers.size());
+        report.outcomes().forEach(outcome -> DriverMetrics.recorder().record(Phase.TEARDOWN, instance,
+                outcome.latency().toNanos(), outcome.status() == TeardownReport.Status.QUIT));
+        return report;
+    }
+
+    /**
+     * Quits the given drivers in parallel.
+     *
+     * @param drivers       drivers to quit
+     * @param concurrency   maximum count of drivers, which are quit at the same time
+     * @param quitTimeout   time, within which a single driver has to be quit before its process tree is killed
+     * @return  the outcome of every driver together with the latencies
+     */
+    public static @NotNull TeardownReport teardown(@NotNull Collection<? extends WebDriver> drivers, int concurrency,
+                                                   @NotNull Duration quitTimeout) {
+        if (concurrency < 1) throw new IllegalArgumentException("At least one driver must be quit at once.");
+        if (drivers.isEmpty()) return TeardownReport.EMPTY;
+
+        final long start = System.nanoTime();
+        final int threads = Math.min(drivers.size(), concurrency);
+        final ExecutorService executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), new ThreadFactoryBuilder()
+                .setNameFormat("gsys-teardown-%d").setDaemon(true).build());
+
+        final List<WebDriver> pending = new ArrayList<>(drivers);
+        final List<TeardownReport.Outcome> outcomes = new ArrayList<>(pending.size());
+        try {
+            final List<Callable<TeardownReport.Outcome>> tasks = new ArrayList<>(pending.size());
+            pending.forEach(driver -> tasks.add(() -> quit(driver, quitTimeout)));
+
+            /* Every quit is cut off by its watchdog, the total limit only covers drivers without local process */
+            final long rounds = (pending.size() + threads - 1) / threads;
+            List<Future<TeardownReport.Outcome>> futures;
+            try {
+                futures = executor.invokeAll(tasks, quitTimeout.multipliedBy(rounds + 1).toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pending.forEach(driver -> outcomes.add(failed(driver, start, e)));
+                return new TeardownReport(outcomes, elapsed(start));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    outcomes.add(futures.get(i).get());
+                } catch (CancellationException e) {
+                    outcomes.add(failed(pending.get(i), start,
+                            new TimeoutException("Driver was not quit within " + quitTimeout)));
+                } catch (ExecutionException e) {
+                    outcomes.add(failed(pending.get(i), start, e.getCause()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    outcomes.add(failed(pending.get(i), start, e));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            /* Quit or not, the drivers are gone for their owner and give way to waiting starts */
+            pending.forEach(AdmissionController.shared()::release);
+        }
+        return new TeardownReport(outcomes, elapsed(start));
+    }
+
+    /**
+     * Quits a single driver and escalates to killing its process tree.
+     * @param driver    driver to quit
+     * @param timeout   time, within which the driver has to be quit
+     * @return  the outcome of the driver
+     */
+    static @NotNull TeardownReport.Outcome quit(@NotNull WebDriver driver, @NotNull Duration timeout) {
+        final long start = System.nanoTime();
+        final String name = String.valueOf(driver);
+        final AtomicBoolean killed = new AtomicBoolean();
+        /* A quit, which does not return in time, is cut off by killing the process tree of the driver */
+        final ScheduledFuture<?> watchdog = WATCHDOG.schedule(() -> killed.set(kill(driver)),
+                timeout.toNanos(), TimeUnit.NANOSECONDS);
+
+        Throwable failure = null;
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        final boolean expired = !watchdog.cancel(false);
+        if (!expired && failure == null) return new TeardownReport.Outcome(name, TeardownReport.Status.QUIT,
+                elapsed(start), null);
+
+        if (expired) {
+            awaitQuietly(watchdog);
+            failure = new TimeoutException("Driver was not quit within " + timeout);
+        } else {
+            killed.set(kill(driver));
+        }
+        LOGGER.warn("driver [{}] could not be quit, its process tree {}: {}", name,
+                killed.get() ? "has been killed" : "could not be found", failure.getMessage());
+        return new TeardownReport.Outcome(name, killed.get() ? TeardownReport.Status.KILLED : TeardownReport.Status.FAILED,
+                elapsed(start), failure);
+    }
+
+    /**
+     * Kills the local driver service of the driver together with its descendants, the browser included.
+     * @param driver    driver, whose service is to be killed
+     * @return  {@code true} if at least one process has been killed
+     */
+    static boolean kill(@NotNull WebDriver driver) {
+        boolean killed = false;
+        for (ProcessInfo service : services(driver)) {
+            killed |= ProcessHandle.of(service.pid()).map(DriverTeardown::destroyTree).orElse(false);
+        }
+        return killed;
+    }
+
+    /**
+     * Finds the local driver service of the driver, which is the descendant of this JVM, that has been
+     * started with the port of the driver or holds this port.
+     * @param driver    driver, whose service is searched
+     * @return  the processes of the service, empty if the driver is not served locally
+     */
+    public static @NotNull List<ProcessInfo> services(@NotNull WebDriver driver) {
+        final int port = servicePort(driver);
+        if (port < 0) return List.of();
+
+        final ProcessTable table = ProcessTable.shared();
+        table.refresh();
+        final String flag = "--port=" + port;
+        return table.descendants(ProcessHandle.current().pid()).stream()
+                .filter(process -> process.command().contains(flag) || process.ports().contains(port))
+                .toList();
+    }
+
+    /** @return the port of the local driver service or {@code -1}, if the driver is not served locally */
+    static int servicePort(@NotNull WebDriver driver) {
+        if (!(driver instanceof RemoteWebDriver remote)
+                || !(remote.getCommandExecutor() instanceof HttpCommandExecutor executor)) return -1;
+
+        final URL address = executor.getAddressOfRemoteServer();
+        if (address == null || address.getPort() < 0) return -1;
+        try {
+            return InetAddress.getByName(address.getHost()).isLoopbackAddress() ? address.getPort() : -1;
+        } catch (UnknownHostException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Destroys the process forcibly together with its descendants.
+     * @param process   root of the process tree
+     * @return  {@code true} if the root process has been destroyed
+     */
+    public static boolean destroyTree(@NotNull ProcessHandle process) {
+        final List<ProcessHandle> descendants = process.descendants().toList();
+        final boolean destroyed = process.destroyForcibly();
+        descendants.forEach(ProcessHandle::destroyForcibly);
+        return destroyed;
+    }
+
+    private static void awaitQuietly(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | CancellationException e) {
+            //None content...
+        }
+    }
+
+    private static TeardownReport.Outcome failed(WebDriver driver, long start, Throwable failure) {
+        return new TeardownReport.Outcome(String.valueOf(driver), TeardownReport.Status.FAILED, elapsed(start), failure);
+    }
+
+    private static Duration elapsed(long start) {
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+}
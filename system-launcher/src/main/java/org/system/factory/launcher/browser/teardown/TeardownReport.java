@@ -0,0 +1,69 @@
+package org.system.factory.launcher.browser.teardown;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Result of a {@link DriverTeardown teardown}.
+ *
+ * @param outcomes  the outcome of every single driver
+ * @param elapsed   duration of the whole teardown
+ */
+public record TeardownReport(@NotNull List<Outcome> outcomes, @NotNull Duration elapsed) {
+
+    /** Report of a teardown without drivers. */
+    public static final TeardownReport EMPTY = new TeardownReport(List.of(), Duration.ZERO);
+
+    public TeardownReport {
+        outcomes = List.copyOf(outcomes);
+    }
+
+    /** Way, in which a driver has been finished. */
+    public enum Status {
+        /** The session has been quit regularly. */
+        QUIT,
+        /** The quit has failed or timed out, the process tree of the driver has been killed. */
+        KILLED,
+        /** The quit has failed or timed out and no process of the driver could be found. */
+        FAILED
+    }
+
+    /**
+     * @param driver    description of the driver
+     * @param status    way, in which the driver has been finished
+     * @param latency   duration from the start of the quit until the driver has been finished
+     * @param failure   cause of the escalation, {@code null} if the driver has been quit regularly
+     */
+    public record Outcome(@NotNull String driver, @NotNull Status status, @NotNull Duration latency,
+                          @Nullable Throwable failure) {
+        //None content...
+    }
+
+    /** @return {@code true} if every driver has been quit regularly */
+    public boolean isClean() {
+        return outcomes.stream().allMatch(outcome -> outcome.status() == Status.QUIT);
+    }
+
+    /**
+     * @param status    way, in which the drivers have been finished
+     * @return count of the drivers, which have been finished in the given way
+     */
+    public long count(@NotNull Status status) {
+        return outcomes.stream().filter(outcome -> outcome.status() == status).count();
+    }
+
+    /** @return the latency of the slowest driver */
+    public @NotNull Duration maxLatency() {
+        return outcomes.stream().map(Outcome::latency).max(Comparator.naturalOrder()).orElse(Duration.ZERO);
+    }
+
+    @Override public String toString() {
+        return "TeardownReport[drivers=" + outcomes.size() + ", quit=" + count(Status.QUIT)
+                + ", killed=" + count(Status.KILLED) + ", failed=" + count(Status.FAILED)
+                + ", maxLatency=" + maxLatency().toMillis() + "ms, elapsed=" + elapsed.toMillis() + "ms]";
+    }
+}
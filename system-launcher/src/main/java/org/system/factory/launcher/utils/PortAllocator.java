@@ -0,0 +1,198 @@
+package org.system.factory.launcher.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.BindException;
+import java.net.DatagramSocket;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Allocator, which hands out free ports of a port range to parallel sessions without duplicates.<br>
+ * Reservations are tracked in an atomic bitmap, which is updated with compare-and-set only, so
+ * allocating threads never block each other. In addition to the reservation, a {@link PortLease lease}
+ * can keep the port bound until it is handed off to its consumer, so that no other process
+ * can take the port in between.
+ */
+public final class PortAllocator {
+
+    private static final int BLOCK = Long.SIZE;
+
+    private final int firstPort;
+    private final int lastPort;
+    private final PortScanner.Protocol protocol;
+    private final boolean bind;
+    private final AtomicLongArray reserved;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final AtomicInteger leased = new AtomicInteger();
+
+    /**
+     * Allocator, whose leases keep the TCP port bound until their handoff.
+     * @param firstPort -> first port of the range
+     * @param lastPort  -> last port of the range
+     */
+    public PortAllocator(int firstPort, int lastPort) {
+        this(firstPort, lastPort, PortScanner.Protocol.TCP, true);
+    }
+
+    /**
+     * @param firstPort -> first port of the range
+     * @param lastPort  -> last port of the range
+     * @param protocol  -> socket types, which have to be bindable
+     * @param bind      -> {@code true} to keep the port bound until the {@link PortLease#handoff() handoff},
+     *                  {@code false} to track the reservation only
+     */
+    public PortAllocator(int firstPort, int lastPort, @NotNull PortScanner.Protocol protocol, boolean bind) {
+        if (firstPort < 1 || lastPort > PortScanner.MAX_PORT || firstPort > lastPort)
+            throw new IllegalArgumentException("Invalid port range " + firstPort + "-" + lastPort);
+        this.firstPort = firstPort;
+        this.lastPort = lastPort;
+        this.protocol = protocol;
+        this.bind = bind;
+        this.reserved = new AtomicLongArray((lastPort - firstPort) / BLOCK + 1);
+    }
+
+    /** @return count of currently leased ports */
+    public int leased() {
+        return leased.get();
+    }
+
+    /**
+     * @return  a lease of a free port of the range
+     * @throws BindException if no port of the range is free
+     */
+    public @NotNull PortLease lease() throws BindException {
+        return tryLease().orElseThrow(() -> new BindException("No free port within " + firstPort + "-" + lastPort));
+    }
+
+    /** @return a lease of a free port of the range or nothing, if no port of the range is free */
+    public @NotNull Optional<PortLease> tryLease() {
+        final int words = reserved.length();
+        /* Every allocation starts at another word, so parallel threads rarely compete for the same word */
+        final int start = Math.floorMod(cursor.getAndIncrement(), words);
+
+        /* Ports used by another process stay reserved until the end of the search, so they are not retried */
+        final List<Integer> skipped = new ArrayList<>();
+        try {
+            for (int i = 0; i < words; i++) {
+                final int word = (start + i) % words;
+                int port;
+                while ((port = reserve(word)) > 0) {
+                    final PortLease lease = acquire(port);
+                    if (lease != null) {
+                        leased.incrementAndGet();
+                        return Optional.of(lease);
+                    }
+                    skipped.add(port);
+                }
+            }
+            return Optional.empty();
+        } finally {
+            skipped.forEach(this::release);
+        }
+    }
+
+    /**
+     * Reserves the lowest free port of a word of the bitmap.
+     * @return the reserved port or {@code -1}, if every port of the word is reserved
+     */
+    private int reserve(int word) {
+        final int base = firstPort + word * BLOCK;
+        final int size = Math.min(BLOCK, lastPort - base + 1);
+        final long valid = size == BLOCK ? -1L : (1L << size) - 1;
+
+        long current;
+        while (((current = reserved.get(word)) & valid) != valid) {
+            final long bit = Long.lowestOneBit(~current & valid);
+            if (reserved.compareAndSet(word, current, current | bit))
+                return base + Long.numberOfTrailingZeros(bit);
+        }
+        return -1;
+    }
+
+    private void release(int port) {
+        final int index = port - firstPort;
+        final int word = index / BLOCK;
+        final long bit = 1L << (index % BLOCK);
+
+        long current;
+        do {
+            current = reserved.get(word);
+        } while (!reserved.compareAndSet(word, current, current & ~bit));
+    }
+
+    private PortLease acquire(int port) {
+        if (!bind) {
+            if (PortScanner.isAvailable(port, protocol)) return new PortLease(port, List.of());
+            return null;
+        }
+
+        final List<Closeable> sockets = new ArrayList<>(2);
+        try {
+            if (protocol != PortScanner.Protocol.UDP) sockets.add(new ServerSocket(port));
+            if (protocol != PortScanner.Protocol.TCP) sockets.add(new DatagramSocket(port));
+            return new PortLease(port, sockets);
+        } catch (IOException e) {
+            sockets.forEach(PortAllocator::closeQuietly);
+            return null;
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            //None content...
+        }
+    }
+
+    /**
+     * Reservation of a port, which is released on {@link #close()}.
+     */
+    public final class PortLease implements AutoCloseable {
+
+        private final int port;
+        private final List<Closeable> sockets;
+        private final AtomicBoolean handedOff = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private PortLease(int port, List<Closeable> sockets) {
+            this.port = port;
+            this.sockets = sockets;
+        }
+
+        /** @return the leased port */
+        public int port() {
+            return port;
+        }
+
+        /**
+         * Unbinds the port, so that its consumer can bind it. The reservation is kept until
+         * {@link #close()}, so the port is not handed out to another session in the meantime.
+         * @return the leased port
+         */
+        public int handoff() {
+            if (handedOff.compareAndSet(false, true)) sockets.forEach(PortAllocator::closeQuietly);
+            return port;
+        }
+
+        /** Unbinds the port, if not yet done, and returns it to the allocator. */
+        @Override public void close() {
+            if (!closed.compareAndSet(false, true)) return;
+            handoff();
+            release(port);
+            leased.decrementAndGet();
+        }
+
+        @Override public String toString() {
+            return "PortLease[" + port + "]";
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.system.factory.launcher.utils;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.DatagramSocket;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parallel scanner for free ports within a port range.<br>
+ * The range is split into blocks of 64 ports, which are claimed in ascending order by the
+ * workers of the scan, so every block is written as a single word of the resulting
+ * {@link BitSet}, whose bit index is the port itself. If the scan is limited to a count of
+ * free ports, no further block is claimed as soon as enough free ports have been found.
+ */
+public final class PortScanner {
+
+    /** Highest port number. */
+    public static final int MAX_PORT = 65_535;
+
+    /** Socket types, which have to be bindable for a port to count as free. */
+    public enum Protocol { TCP, UDP, BOTH }
+
+    private static final int BLOCK = Long.SIZE;
+
+    private static final PortScanner SHARED =
+            new PortScanner(Protocol.BOTH, Runtime.getRuntime().availableProcessors());
+
+    private final Protocol protocol;
+    private final int concurrency;
+
+    /**
+     * @param protocol      socket types, which have to be bindable
+     * @param concurrency   count of ports, which are checked at the same time
+     */
+    public PortScanner(@NotNull Protocol protocol, int concurrency) {
+        if (concurrency < 1) throw new IllegalArgumentException("At least one port must be checked at once.");
+        this.protocol = protocol;
+        this.concurrency = concurrency;
+    }
+
+    /** @return scanner for TCP and UDP, which checks as many ports at once as CPUs are available */
+    public static @NotNull PortScanner shared() {
+        return SHARED;
+    }
+
+    public @NotNull Protocol protocol() {
+        return protocol;
+    }
+
+    /**
+     * @param firstPort -> first port to read
+     * @param lastPort  -> last port to read
+     * @return all available ports within the given area, the bit index is the port
+     */
+    public @NotNull BitSet available(int firstPort, int lastPort) {
+        return available(firstPort, lastPort, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Scans the given area until at least the given count of free ports has been found. The scanned
+     * blocks always form a gap-free prefix of the area, so the lowest {@code limit} ports of the
+     * result are the first free ports of the area.
+     *
+     * @param firstPort -> first port to read
+     * @param lastPort  -> last port to read
+     * @param limit     -> count of free ports, after which the scan stops
+     * @return the found available ports within the given area, the bit index is the port
+     */
+    public @NotNull BitSet available(int firstPort, int lastPort, int limit) {
+        if (firstPort < 0 || lastPort > MAX_PORT || firstPort > lastPort)
+            throw new IllegalArgumentException("Invalid port range " + firstPort + "-" + lastPort);
+        if (limit < 1) return new BitSet();
+
+        final long[] words = new long[(lastPort / BLOCK) + 1];
+        final AtomicInteger nextBlock = new AtomicInteger(firstPort / BLOCK);
+        final AtomicInteger found = new AtomicInteger();
+
+        final Runnable worker = () -> {
+            int block;
+            while (found.get() < limit && (block = nextBlock.getAndIncrement()) < words.length) {
+                long word = 0L;
+                final int from = Math.max(block * BLOCK, firstPort), to = Math.min(block * BLOCK + BLOCK - 1, lastPort);
+                for (int port = from; port <= to; port++) {
+                    if (isAvailable(port, protocol)) word |= 1L << (port % BLOCK);
+                }
+                /* Every block is owned by exactly one worker, the join publishes the word */
+                words[block] = word;
+                found.addAndGet(Long.bitCount(word));
+            }
+        };
+
+        final int blocks = words.length - firstPort / BLOCK;
+        final int threads = Math.min(concurrency, blocks);
+        if (threads == 1) {
+            worker.run();
+            return BitSet.valueOf(words);
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setNameFormat("gsys-port-scan-%d").setDaemon(true).build());
+        try {
+            final List<Future<?>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) futures.add(executor.submit(worker));
+            for (Future<?> future : futures) future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Port scan was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Port scan failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * @param firstPort -> first port to read
+     * @param lastPort  -> last port to read
+     * @param count     -> count of requested ports
+     * @return the first free ports of the given area in ascending order, at most {@code count}
+     */
+    public int @NotNull [] firstAvailable(int firstPort, int lastPort, int count) {
+        return available(firstPort, lastPort, count).stream().limit(count).toArray();
+    }
+
+    /**
+     * Check to see if a port is available.
+     *
+     * @param port      -> the port to check for availability.
+     * @param protocol  -> socket types, which have to be bindable
+     */
+    public static boolean isAvailable(int port, @NotNull Protocol protocol) {
+        /* Port 0 lets the system choose a port, so it is always bindable but never free */
+        if (port <= 0 || port > MAX_PORT) return false;
+        return switch (protocol) {
+            case TCP -> isTcpAvailable(port);
+            case UDP -> isUdpAvailable(port);
+            case BOTH -> isTcpAvailable(port) && isUdpAvailable(port);
+        };
+    }
+
+    private static boolean isTcpAvailable(int port) {
+        try (var socket = new ServerSocket(port)) {
+            return socket.isBound();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean isUdpAvailable(int port) {
+        try (var socket = new DatagramSocket(port)) {
+            return socket.isBound();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -2,18 +2,16 @@ package org.system.factory.launcher.utils;
 
 import org.apache.commons.collections4.MultiValuedMap;
 import org.apache.commons.collections4.multimap.ArrayListValuedHashMap;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.system.factory.launcher.utils.proc.ProcessInfo;
+import org.system.factory.launcher.utils.proc.ProcessTable;
+import org.system.factory.launcher.utils.proc.SocketInventory;
+import org.system.factory.launcher.utils.process.ProcessRunner;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.net.DatagramSocket;
-import java.net.ServerSocket;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.*;
 
@@ -34,24 +32,33 @@ public final class PortUtils {
     }
 
     /**
+     * On Linux, all ports are answered from the cached {@link ProcessTable process table},
+     * otherwise {@code lsof} is run per port.
      *
      * @param ports -> Ports of the applications
-     * @return a list of the applications of the given ports
+     * @return the command of the application of each given port, which is held by an application
      */
-    public static @Nullable Map<String, String> getPortApplication(int... ports) {
-
-        final List<String> runningApps = getRunningApps();
+    public static @NotNull Map<String, String> getPortApplication(int... ports) {
 
         if(ports == null || ports.length == 0)
             throw new RuntimeException("At least one special port must be specified.");
 
-        Arrays.stream(ports).forEach(port -> {
-            String pid = getPortInfo(listen(port)).get("PID").stream().toList().get(0);
-
-
+        final Map<String, String> applications = new LinkedHashMap<>();
+        if (SocketInventory.isSupported()) {
+            Arrays.stream(ports).forEach(port -> ProcessTable.shared().holding(port).stream()
+                    .map(ProcessInfo::command).findFirst()
+                    .ifPresent(command -> applications.put(String.valueOf(port), command)));
+            return applications;
+        }
 
+        Arrays.stream(ports).forEach(port -> {
+            final List<String> info = listen(port);
+            // The port is not held by any application
+            if (info.size() < 2) return;
+            getPortInfo(info).getOrDefault("COMMAND", List.of()).stream().findFirst()
+                    .ifPresent(command -> applications.put(String.valueOf(port), command));
         });
-        return null;
+        return applications;
     }
 
     /**
@@ -60,49 +67,44 @@ public final class PortUtils {
      * @return the information of this port
      */
     private static Map<String, Collection<String>> getPortInfo(@NotNull List<String> ports) {
-        final List<String> keys  = Arrays.stream(cleanString(ports.remove(0)).split(SEPARATOR)).toList();
+        final String[] keys = cleanString(ports.remove(0)).split(SEPARATOR);
         final MultiValuedMap<String, String> portMap = new ArrayListValuedHashMap<>();
 
         // Loop through list of information from port listener
         ports.forEach(vars -> {
-            // Add the key (header) and column values (content) into the multimap
-            for(int idx = 0; idx < keys.size(); idx++)
-                portMap.put(keys.get(idx), Arrays.stream(cleanString(vars).split(SEPARATOR)).toList().get(idx));
+            // Split the row once and add the key (header) and column values (content) into the multimap
+            final String[] columns = cleanString(vars).split(SEPARATOR);
+            for(int idx = 0; idx < Math.min(keys.length, columns.length); idx++)
+                portMap.put(keys[idx], columns[idx]);
         });
         return portMap.asMap();
     }
 
     /**
-     * @return the application that holds the given port occupied
+     * Kept for callers compiled against the former {@code int} signature.
+     * @param pid -> id of the process
+     * @return the command of the application with the given process id
+     * @see #getRunningAppOf(long)
      */
-    @Contract(pure = true)
-    @Deprecated public static @Nullable String getRunningAppOf(int pid) {
+    public static @Nullable String getRunningAppOf(int pid) {
+        return getRunningAppOf((long) pid);
+    }
 
-        return null;
+    /**
+     * @param pid -> id of the process
+     * @return the command of the application with the given process id
+     */
+    public static @Nullable String getRunningAppOf(long pid) {
+        return ProcessTable.shared().process(pid).map(ProcessInfo::command).orElse(null);
     }
 
     /**
-     * @ToDo: Complete implementation of the information collection.
-     * @return All applications that currently occupy the current ports (Provided they occupy one or more ports)
+     * @return the commands of all running applications ordered by their process id, whether they hold ports or not
      */
-    public static @Nullable List<String> getRunningApps() {
-        try {
-            String process;
-            // getRuntime: Returns the runtime object associated with the current Java application.
-            // exec: Executes the specified string command in a separate process.
-            Process p = Runtime.getRuntime().exec("ps -few", null, null);
-
-            BufferedReader input = new BufferedReader(new InputStreamReader(p.getInputStream()));
-            while ((process = input.readLine()) != null) {
-                System.out.println(process); // <-- Print all Process here line
-                // by line
-            }
-            input.close();
-
-        } catch (Exception err) {
-            err.printStackTrace();
-        }
-        return null;
+    public static @NotNull List<String> getRunningApps() {
+        return ProcessTable.shared().processes().values().stream()
+                .sorted(Comparator.comparingLong(ProcessInfo::pid))
+                .map(ProcessInfo::command).collect(Collectors.toList());
     }
 
     /**
@@ -131,33 +133,38 @@ public final class PortUtils {
      */
     @Contract("_, _ -> new")
     public static @NotNull List<Integer> usedPorts(int firstPort, int lastPort) {
-        return new ArrayList<>(org.apache.commons.collections4.CollectionUtils.disjunction(
-                    IntStream.rangeClosed(firstPort, lastPort).boxed().collect(Collectors.toList()),
-                    availablePorts(firstPort, lastPort)));
+        final BitSet used = availablePortSet(firstPort, lastPort);
+        used.flip(firstPort, lastPort + 1);
+        return used.stream().boxed().collect(Collectors.toList());
     }
 
     /**
      * @param firstPort -> first port to read
      * @param lastPort  -> last port to read
      * @return all available ports within the given area
+     * @see #availablePortSet(int, int)
      */
     public static List<Integer> availablePorts(int firstPort, int lastPort) {
-        return Arrays.stream(IntStream.rangeClosed(firstPort, lastPort).toArray())
-                .filter(PortUtils::isPortAvailable)
-                .boxed().collect(Collectors.toList());
+        return availablePortSet(firstPort, lastPort).stream().boxed().collect(Collectors.toList());
+    }
+
+    /**
+     * Scans the given area in parallel with the {@link PortScanner#shared() shared scanner}.
+     * @param firstPort -> first port to read
+     * @param lastPort  -> last port to read
+     * @return all available ports within the given area, the bit index is the port
+     */
+    public static @NotNull BitSet availablePortSet(int firstPort, int lastPort) {
+        return PortScanner.shared().available(firstPort, lastPort);
     }
 
     /**
-     * Check to see if a port is available.
+     * Check to see if a port is available for TCP and UDP.
      *
      * @param port -> the port to check for availability.
      */
     public static boolean isPortAvailable(int port) {
-        try (var socket = new ServerSocket(port); var ds = new DatagramSocket(port)) {
-            return socket.getChannel().isOpen();
-        } catch (IOException e) {
-            return false;
-        }
+        return PortScanner.isAvailable(port, PortScanner.Protocol.BOTH);
     }
 
     /**
@@ -166,9 +173,8 @@ public final class PortUtils {
      * @return the result returned by the executed commands
      */
     private static List<String> exec(String... command) {
-        try { return IOUtils.readLines(Runtime.getRuntime().exec(command).getInputStream(),
-                StandardCharsets.UTF_8.name());
-        } catch(IOException e) { throw new RuntimeException(""); }
+        try { return new ArrayList<>(ProcessRunner.shared().run(command).stdout());
+        } catch(IOException e) { throw new RuntimeException("Command " + Arrays.toString(command) + " failed", e); }
     }
 
     private static String cleanString(@NotNull String s) {
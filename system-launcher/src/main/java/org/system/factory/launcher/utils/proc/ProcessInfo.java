@@ -0,0 +1,27 @@
+package org.system.factory.launcher.utils.proc;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+
+/**
+ * Entry of the {@link ProcessTable}.
+ *
+ * @param pid       -> process id
+ * @param ppid      -> id of the parent process
+ * @param command   -> command line of the process
+ * @param ports     -> local ports of the sockets, which are held by the process
+ * @param startTime -> start of the process in clock ticks since boot, {@code 0} if unknown.
+ *                  Together with the pid it identifies the process, even if the pid is reused.
+ */
+public record ProcessInfo(long pid, long ppid, @NotNull String command, @NotNull Set<Integer> ports, long startTime) {
+
+    public ProcessInfo {
+        ports = Set.copyOf(ports);
+    }
+
+    /** @return {@code true} if the process holds at least one port */
+    public boolean holdsPorts() {
+        return !ports.isEmpty();
+    }
+}
@@ -0,0 +1,245 @@
+package org.system.factory.launcher.utils.proc;
+
+import org.jetbrains.annotations.NotNull;
+import org.system.factory.launcher.utils.process.ProcessRunner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Cached snapshot of all processes with their parent and the ports they hold.<br>
+ * On Linux the snapshot is read from the proc file system. A refresh re-reads the command line and the
+ * file descriptors of new processes only; processes, whose start time is unchanged, keep their entry.
+ * Their descriptors are only rescanned, if the socket tables contain sockets, which did not exist before
+ * and are not owned by any of the new processes. On other systems the snapshot is read from {@code ps}
+ * without ports. Lookups within the time to live of the snapshot do not touch the system at all.
+ */
+public final class ProcessTable {
+
+    /** Time to live of a snapshot in milliseconds. */
+    public static final String TTL_PROPERTY = "gsys.process.table.ttl";
+
+    private static final ProcessTable SHARED = new ProcessTable(Duration.ofMillis(Long.getLong(TTL_PROPERTY, 1_000L)));
+
+    /** Fields of {@code /proc/<pid>/stat} behind the command name, counted from the state. */
+    private static final int STAT_PPID = 1, STAT_START_TIME = 19;
+
+    private final Duration ttl;
+    private volatile Snapshot snapshot;
+
+    /**
+     * @param ttl   -> time, for which a snapshot is answered without refresh
+     */
+    public ProcessTable(@NotNull Duration ttl) {
+        if (ttl.isNegative()) throw new IllegalArgumentException("The time to live must not be negative.");
+        this.ttl = ttl;
+    }
+
+    /** @return process table, whose time to live is configured by {@value #TTL_PROPERTY} */
+    public static @NotNull ProcessTable shared() {
+        return SHARED;
+    }
+
+    public @NotNull Duration ttl() {
+        return ttl;
+    }
+
+    /** @return all processes of the current snapshot by their pid */
+    public @NotNull Map<Long, ProcessInfo> processes() {
+        return current().processes();
+    }
+
+    /**
+     * @param pid   -> process id
+     * @return the process of the current snapshot
+     */
+    public @NotNull Optional<ProcessInfo> process(long pid) {
+        return Optional.ofNullable(processes().get(pid));
+    }
+
+    /**
+     * @param pid   -> id of the parent process
+     * @return the direct children of the process
+     */
+    public @NotNull List<ProcessInfo> children(long pid) {
+        return processes().values().stream().filter(info -> info.ppid() == pid && info.pid() != pid).toList();
+    }
+
+    /**
+     * @param pid   -> id of the root process
+     * @return all descendants of the process, parents before their children
+     */
+    public @NotNull List<ProcessInfo> descendants(long pid) {
+        final Map<Long, List<ProcessInfo>> children = processes().values().stream()
+                .filter(info -> info.ppid() != info.pid())
+                .collect(Collectors.groupingBy(ProcessInfo::ppid));
+
+        final List<ProcessInfo> descendants = new ArrayList<>();
+        final Deque<Long> pending = new ArrayDeque<>(List.of(pid));
+        final Set<Long> visited = new HashSet<>(pending);
+        while (!pending.isEmpty()) {
+            for (ProcessInfo child : children.getOrDefault(pending.poll(), List.of())) {
+                if (!visited.add(child.pid())) continue;
+                descendants.add(child);
+                pending.add(child.pid());
+            }
+        }
+        return descendants;
+    }
+
+    /**
+     * @param port  -> local port of the sockets
+     * @return all processes, which hold a socket on the port
+     */
+    public @NotNull List<ProcessInfo> holding(int port) {
+        return processes().values().stream().filter(info -> info.ports().contains(port)).toList();
+    }
+
+    /** @return all processes, which hold at least one port */
+    public @NotNull List<ProcessInfo> holdingPorts() {
+        return processes().values().stream().filter(ProcessInfo::holdsPorts).toList();
+    }
+
+    /** Refreshes the snapshot immediately, re-reading changed processes only. */
+    public synchronized void refresh() {
+        snapshot = SocketInventory.isSupported() ? scan(snapshot) : list();
+    }
+
+    /** Drops the snapshot, so the next lookup reads all processes again. */
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null || current.isExpired(ttl)) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null || current.isExpired(ttl)) refresh();
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static Snapshot scan(Snapshot previous) {
+        final Map<Long, Entry> known = previous == null || previous.entries() == null ? Map.of() : previous.entries();
+        final Map<Long, Integer> socketPorts = SocketInventory.socketPorts(null);
+
+        /* Sockets, which did not exist at the last refresh, are owned by new or by known processes */
+        final Set<Long> unknown = new HashSet<>(socketPorts.keySet());
+        if (previous != null) unknown.removeAll(previous.sockets());
+
+        final Map<Long, Entry> entries = new HashMap<>();
+        final List<long[]> unchanged = new ArrayList<>();
+        try (DirectoryStream<Path> processes = Files.newDirectoryStream(SocketInventory.PROC, SocketInventory::isPid)) {
+            for (Path process : processes) {
+                final long pid = Long.parseLong(process.getFileName().toString());
+                final long[] stat = stat(process);
+                /* The process has terminated in the meantime */
+                if (stat == null) continue;
+
+                final Entry entry = known.get(pid);
+                if (entry != null && entry.info().startTime() == stat[1]) {
+                    unchanged.add(new long[]{pid, stat[0]});
+                    continue;
+                }
+                final String command = SocketInventory.commandLine(pid);
+                if (command == null) continue;
+                final Set<Long> inodes = SocketInventory.socketInodes(pid);
+                unknown.removeAll(inodes);
+                entries.put(pid, new Entry(pid, stat[0], command, stat[1], inodes, socketPorts));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("The process table could not be read", e);
+        }
+
+        /* Only if a new socket is still without owner, the descriptors of the known processes are rescanned */
+        final boolean rescan = !unknown.isEmpty();
+        for (long[] process : unchanged) {
+            final Entry entry = known.get(process[0]);
+            final Set<Long> inodes = rescan ? SocketInventory.socketInodes(process[0]) : entry.inodes();
+            entries.put(process[0], entry.with(process[1], inodes, socketPorts));
+        }
+        return new Snapshot(entries, processes(entries), socketPorts.keySet(), System.nanoTime());
+    }
+
+    /** Fallback for systems without proc file system, the processes are listed without their ports. */
+    private static Snapshot list() {
+        final Map<Long, ProcessInfo> processes = new HashMap<>();
+        try {
+            for (String line : ProcessRunner.shared().run("ps", "-eo", "pid=,ppid=,args=").stdout()) {
+                final String[] columns = line.trim().split("\\s+", 3);
+                if (columns.length < 2) continue;
+                final long pid = Long.parseLong(columns[0]);
+                processes.put(pid, new ProcessInfo(pid, Long.parseLong(columns[1]),
+                        columns.length > 2 ? columns[2] : "", Set.of(), 0));
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new IllegalStateException("The process table could not be read", e);
+        }
+        return new Snapshot(null, Collections.unmodifiableMap(processes), Set.of(), System.nanoTime());
+    }
+
+    /** @return the parent and the start time of the process or {@code null}, if it has terminated */
+    private static long[] stat(Path process) {
+        try {
+            final String stat = Files.readString(process.resolve("stat"), StandardCharsets.US_ASCII);
+            /* The command name in parentheses may contain blanks and parentheses itself */
+            final String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+            return new long[]{Long.parseLong(fields[STAT_PPID]), Long.parseLong(fields[STAT_START_TIME])};
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Map<Long, ProcessInfo> processes(Map<Long, Entry> entries) {
+        final Map<Long, ProcessInfo> processes = new HashMap<>(entries.size());
+        entries.forEach((pid, entry) -> processes.put(pid, entry.info()));
+        return Collections.unmodifiableMap(processes);
+    }
+
+    /** Process with the inodes of all its sockets, of which only some may be bound to a port. */
+    private record Entry(ProcessInfo info, Set<Long> inodes) {
+
+        Entry(long pid, long ppid, String command, long startTime, Set<Long> inodes, Map<Long, Integer> socketPorts) {
+            this(new ProcessInfo(pid, ppid, command, ports(inodes, socketPorts), startTime), inodes);
+        }
+
+        /** @return the entry itself, if neither its parent nor its ports have changed */
+        Entry with(long ppid, Set<Long> inodes, Map<Long, Integer> socketPorts) {
+            final Set<Integer> ports = ports(inodes, socketPorts);
+            if (ppid == info.ppid() && ports.equals(info.ports()))
+                return inodes.equals(this.inodes) ? this : new Entry(info, inodes);
+            return new Entry(new ProcessInfo(info.pid(), ppid, info.command(), ports, info.startTime()), inodes);
+        }
+
+        private static Set<Integer> ports(Set<Long> inodes, Map<Long, Integer> socketPorts) {
+            final Set<Integer> ports = new HashSet<>();
+            for (long inode : inodes) {
+                final Integer port = socketPorts.get(inode);
+                if (port != null) ports.add(port);
+            }
+            return ports;
+        }
+    }
+
+    /**
+     * @param entries   -> processes with their sockets, {@code null} if listed by {@code ps}
+     * @param processes -> processes by their pid
+     * @param sockets   -> inodes of all sockets of the socket tables
+     * @param taken     -> time of the snapshot in nanoseconds
+     */
+    private record Snapshot(Map<Long, Entry> entries, Map<Long, ProcessInfo> processes, Set<Long> sockets, long taken) {
+
+        boolean isExpired(Duration ttl) {
+            return System.nanoTime() - taken > ttl.toNanos();
+        }
+    }
+}
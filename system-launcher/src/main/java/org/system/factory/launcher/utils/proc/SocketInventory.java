@@ -0,0 +1,237 @@
+package org.system.factory.launcher.utils.proc;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Linux-native inventory of the sockets of all processes.<br>
+ * Instead of forking {@code lsof} for every port, the socket tables {@code /proc/net/tcp},
+ * {@code tcp6}, {@code udp} and {@code udp6} as well as the file descriptors
+ * {@code /proc/<pid>/fd} are read in a single pass, which builds the index
+ * port &rarr; inode &rarr; PID &rarr; command line.<br>
+ * Only sockets, which hold their port, are indexed: listening TCP sockets and bound, unconnected
+ * UDP sockets. Client connections share the local port range, but do not make their process the
+ * owner of a port.
+ */
+public final class SocketInventory {
+
+    static final Path PROC = Paths.get("/proc");
+    private static final String[] TABLES = {"tcp", "tcp6", "udp", "udp6"};
+    private static final String SOCKET = "socket:[";
+
+    /** Column of the local address within the socket tables. */
+    private static final int LOCAL_ADDRESS = 1;
+    /** Column of the state within the socket tables. */
+    private static final int STATE = 3;
+    /** Column of the inode within the socket tables. */
+    private static final int INODE = 9;
+    /** State {@code TCP_LISTEN} of a listening TCP socket. */
+    private static final String LISTEN = "0A";
+    /** State {@code TCP_CLOSE} of a UDP socket, which is bound but not connected. */
+    private static final String UNCONNECTED = "07";
+
+    private final Map<Integer, Set<Long>> portInodes;
+    private final Map<Long, Set<Long>> inodePids;
+    /** Command lines, which have been looked up by any of the threads sharing the inventory. */
+    private final Map<Long, String> commands = new ConcurrentHashMap<>();
+
+    private SocketInventory(Map<Integer, Set<Long>> portInodes, Map<Long, Set<Long>> inodePids) {
+        this.portInodes = portInodes;
+        this.inodePids = inodePids;
+    }
+
+    /** @return {@code true} if the socket tables of the proc file system can be read */
+    public static boolean isSupported() {
+        return Files.isReadable(PROC.resolve("net").resolve("tcp"));
+    }
+
+    /** @return inventory of the sockets of all ports */
+    public static @NotNull SocketInventory scan() {
+        return scan((int[]) null);
+    }
+
+    /**
+     * @param ports -> ports, whose sockets are to be indexed
+     * @return inventory of the sockets of the given ports
+     */
+    public static @NotNull SocketInventory scan(int @Nullable ... ports) {
+        final BitSet filter = ports == null || ports.length == 0 ? null : new BitSet();
+        if (filter != null) Arrays.stream(ports).forEach(filter::set);
+
+        final Map<Long, Integer> inodePorts = socketPorts(filter);
+        final Map<Integer, Set<Long>> portInodes = new HashMap<>();
+        inodePorts.forEach((inode, port) -> portInodes.computeIfAbsent(port, key -> new HashSet<>()).add(inode));
+
+        return new SocketInventory(portInodes, inodePids(inodePorts.keySet()));
+    }
+
+    /**
+     * Reads the socket tables of all protocols.
+     * @param filter    -> ports, whose sockets are to be read, or {@code null} for all ports
+     * @return the local port of every socket, which holds its port, by its inode
+     */
+    static @NotNull Map<Long, Integer> socketPorts(@Nullable BitSet filter) {
+        final Map<Long, Integer> inodePorts = new HashMap<>();
+        for (String table : TABLES) readTable(PROC.resolve("net").resolve(table), filter, inodePorts);
+        return inodePorts;
+    }
+
+    /**
+     * Reads a single socket table in the format of {@code /proc/net/tcp}, {@code tcp6}, {@code udp}
+     * or {@code udp6}; tables, whose name starts with {@code udp}, are read as UDP tables.
+     * @param table     -> the socket table
+     * @param filter    -> ports, whose sockets are to be read, or {@code null} for all ports
+     * @return the local port of every socket, which holds its port, by its inode
+     */
+    public static @NotNull Map<Long, Integer> readTable(@NotNull Path table, @Nullable BitSet filter) {
+        final Map<Long, Integer> inodePorts = new HashMap<>();
+        readTable(table, filter, inodePorts);
+        return inodePorts;
+    }
+
+    /**
+     * Reads the socket inodes of a process, whose file descriptors are readable.
+     * @param pid   -> process id
+     * @return the inodes of all sockets of the process
+     */
+    static @NotNull Set<Long> socketInodes(long pid) {
+        final Set<Long> inodes = new HashSet<>();
+        try (DirectoryStream<Path> fds = Files.newDirectoryStream(PROC.resolve(Long.toString(pid)).resolve("fd"))) {
+            for (Path fd : fds) {
+                final long inode = socketInode(fd);
+                if (inode >= 0) inodes.add(inode);
+            }
+        } catch (IOException | SecurityException e) {
+            /* Processes of other users or already terminated processes are skipped */
+        }
+        return inodes;
+    }
+
+    /**
+     * @param pid   -> process id
+     * @return the command line of the process or its name, if the command line is empty
+     */
+    static @Nullable String commandLine(long pid) {
+        final Path dir = PROC.resolve(Long.toString(pid));
+        try {
+            final byte[] raw = Files.readAllBytes(dir.resolve("cmdline"));
+            if (raw.length > 0) {
+                /* The arguments of the command line are separated by NUL characters */
+                for (int i = 0; i < raw.length; i++) if (raw[i] == 0) raw[i] = ' ';
+                return new String(raw, StandardCharsets.UTF_8).trim();
+            }
+            return Files.readString(dir.resolve("comm")).trim();
+        } catch (IOException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /** @return the indexed ports */
+    public @NotNull Set<Integer> ports() {
+        return Collections.unmodifiableSet(portInodes.keySet());
+    }
+
+    /**
+     * @param port  -> port of the sockets
+     * @return the ids of all processes, which hold a socket on the port
+     */
+    public @NotNull Set<Long> pids(int port) {
+        final Set<Long> pids = new TreeSet<>();
+        portInodes.getOrDefault(port, Set.of()).forEach(inode -> pids.addAll(inodePids.getOrDefault(inode, Set.of())));
+        return pids;
+    }
+
+    /**
+     * @param pid   -> process id
+     * @return the command line of the process
+     */
+    public @NotNull Optional<String> command(long pid) {
+        String command = commands.get(pid);
+        /* The command line is read outside of the map, so a slow read never blocks other lookups */
+        if (command == null && (command = commandLine(pid)) != null) commands.putIfAbsent(pid, command);
+        return Optional.ofNullable(command);
+    }
+
+    /**
+     * @param ports -> ports of the applications
+     * @return the command line of the first process holding each port, in the order of the ports
+     */
+    public @NotNull Map<Integer, String> applications(int @NotNull ... ports) {
+        final Map<Integer, String> applications = new LinkedHashMap<>();
+        for (int port : ports) {
+            pids(port).stream().map(this::command).flatMap(Optional::stream).findFirst()
+                    .ifPresent(command -> applications.put(port, command));
+        }
+        return applications;
+    }
+
+    private static void readTable(Path table, BitSet filter, Map<Long, Integer> inodePorts) {
+        final String holding = table.getFileName().toString().startsWith("udp") ? UNCONNECTED : LISTEN;
+        try (BufferedReader reader = Files.newBufferedReader(table, StandardCharsets.US_ASCII)) {
+            String line = reader.readLine(); // header
+            while ((line = reader.readLine()) != null) {
+                /* Every row is split once, all columns are taken from the same split */
+                final String[] columns = line.trim().split("\\s+");
+                if (columns.length <= INODE || !holding.equals(columns[STATE])) continue;
+
+                final String local = columns[LOCAL_ADDRESS];
+                final int port;
+                final long inode;
+                try {
+                    port = Integer.parseInt(local.substring(local.lastIndexOf(':') + 1), 16);
+                    inode = Long.parseLong(columns[INODE]);
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                /* Inode 0 marks sockets, which are not owned by a process anymore, port 0 unbound ones */
+                if (inode == 0 || port == 0 || (filter != null && !filter.get(port))) continue;
+
+                inodePorts.put(inode, port);
+            }
+        } catch (IOException e) {
+            /* Tables of disabled protocols, like tcp6, do not exist */
+        }
+    }
+
+    private static Map<Long, Set<Long>> inodePids(Set<Long> inodes) {
+        final Map<Long, Set<Long>> inodePids = new HashMap<>();
+        if (inodes.isEmpty()) return inodePids;
+
+        try (DirectoryStream<Path> processes = Files.newDirectoryStream(PROC, SocketInventory::isPid)) {
+            for (Path process : processes) {
+                final long pid = Long.parseLong(process.getFileName().toString());
+                for (long inode : socketInodes(pid)) {
+                    if (inodes.contains(inode)) inodePids.computeIfAbsent(inode, key -> new TreeSet<>()).add(pid);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("The process table could not be read", e);
+        }
+        return inodePids;
+    }
+
+    static boolean isPid(Path path) {
+        final String name = path.getFileName().toString();
+        for (int i = 0; i < name.length(); i++) if (!Character.isDigit(name.charAt(i))) return false;
+        return !name.isEmpty();
+    }
+
+    private static long socketInode(Path fd) {
+        try {
+            final String target = Files.readSymbolicLink(fd).toString();
+            return target.startsWith(SOCKET) ? Long.parseLong(target, SOCKET.length(), target.length() - 1, 10) : -1;
+        } catch (IOException | SecurityException | NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package org.system.factory.launcher.utils.process;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Running process of the {@link ProcessRunner}, whose output is streamed line by line.<br>
+ * Standard and error output are drained concurrently, so the process never blocks on a full
+ * pipe. Reading stops at the timeout of the process, which is destroyed together with its
+ * descendants on {@link #close()} or as soon as the timeout has expired.
+ */
+public final class ProcessLines implements AutoCloseable {
+
+    /** Marks the end of the standard output inside the queue. */
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    private static final String EOF = new String("EOF");
+
+    private final List<String> command;
+    private final Process process;
+    private final long start = System.nanoTime();
+    private final long deadline;
+    private final BlockingQueue<String> stdout = new LinkedBlockingQueue<>();
+    private final Queue<String> stderr = new ConcurrentLinkedQueue<>();
+    private final Future<?> errors;
+    private final Runnable release;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile boolean timedOut;
+    private boolean exhausted;
+
+    ProcessLines(@NotNull List<String> command, @NotNull Process process, @NotNull Duration timeout,
+                 @NotNull ExecutorService drainers, @NotNull Runnable release) {
+        this.command = List.copyOf(command);
+        this.process = process;
+        this.deadline = start + timeout.toNanos();
+        this.release = release;
+
+        drainers.execute(() -> drain(process.getInputStream(), stdout::add, true));
+        this.errors = drainers.submit(() -> drain(process.getErrorStream(), stderr::add, false));
+    }
+
+    /** @return the executed command */
+    public @NotNull List<String> command() {
+        return command;
+    }
+
+    /**
+     * The lines of the standard output in the order of their appearance. The stream ends with the
+     * output of the process or with its timeout; closing the stream closes the process.
+     * @return lazily read lines of the standard output
+     */
+    public @NotNull Stream<String> stream() {
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<String>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override public boolean tryAdvance(Consumer<? super String> action) {
+                final String line = next();
+                if (line == null) return false;
+                action.accept(line);
+                return true;
+            }
+        }, false).onClose(this::close);
+    }
+
+    /** @return lines of the error output, which have been drained so far */
+    public @NotNull List<String> stderr() {
+        return List.copyOf(stderr);
+    }
+
+    /** @return {@code true} if the process has been destroyed after its timeout */
+    public boolean timedOut() {
+        return timedOut;
+    }
+
+    /**
+     * Waits for the end of the process within its timeout.
+     * @param stdout    the lines of the standard output, which have been consumed
+     * @return  the collected result of the process
+     */
+    @NotNull ProcessResult result(@NotNull List<String> stdout) {
+        boolean exited;
+        try {
+            exited = process.waitFor(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            if (exited) errors.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exited = false;
+        } catch (ExecutionException | TimeoutException e) {
+            exited = !process.isAlive();
+        }
+        if (!exited) {
+            timedOut = true;
+            destroy();
+        }
+        return new ProcessResult(command, timedOut ? -1 : process.exitValue(), stdout, stderr(), timedOut,
+                Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    @Override public void close() {
+        if (!closed.compareAndSet(false, true)) return;
+        try {
+            if (process.isAlive()) destroy();
+        } finally {
+            release.run();
+        }
+    }
+
+    private String next() {
+        if (exhausted) return null;
+        try {
+            final long remaining = deadline - System.nanoTime();
+            final String line = remaining > 0 ? stdout.poll(remaining, TimeUnit.NANOSECONDS) : stdout.poll();
+            if (line == null) {
+                timedOut = true;
+                destroy();
+            }
+            if (line == null || line == EOF) {
+                exhausted = true;
+                return null;
+            }
+            return line;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exhausted = true;
+            return null;
+        }
+    }
+
+    /** Destroys the process and its descendants, which could otherwise keep the pipes open. */
+    private void destroy() {
+        final List<ProcessHandle> descendants = process.descendants().toList();
+        process.destroyForcibly();
+        descendants.forEach(ProcessHandle::destroyForcibly);
+    }
+
+    private static void drain(InputStream stream, Consumer<String> sink, boolean terminate) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, Charset.defaultCharset()))) {
+            String line;
+            while ((line = reader.readLine()) != null) sink.accept(line);
+        } catch (IOException e) {
+            /* The pipe has been closed by destroying the process */
+        } finally {
+            if (terminate) sink.accept(EOF);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.system.factory.launcher.utils.process;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Collected result of a process, which has been run by the {@link ProcessRunner}.
+ *
+ * @param command   the executed command
+ * @param exitCode  exit code of the process or {@code -1}, if it did not terminate in time
+ * @param stdout    lines of the standard output
+ * @param stderr    lines of the error output
+ * @param timedOut  {@code true} if the process was destroyed after its timeout
+ * @param elapsed   run time of the process
+ */
+public record ProcessResult(@NotNull List<String> command, int exitCode, @NotNull List<String> stdout,
+                            @NotNull List<String> stderr, boolean timedOut, @NotNull Duration elapsed) {
+
+    public ProcessResult {
+        command = List.copyOf(command);
+        stdout = List.copyOf(stdout);
+        stderr = List.copyOf(stderr);
+    }
+
+    /** @return {@code true} if the process terminated in time with exit code 0 */
+    public boolean isSuccess() {
+        return !timedOut && exitCode == 0;
+    }
+}
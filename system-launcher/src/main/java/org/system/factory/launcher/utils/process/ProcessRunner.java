@@ -0,0 +1,107 @@
+package org.system.factory.launcher.utils.process;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Process execution layer for all shell probes of the launcher.<br>
+ * Every process has a timeout, after which it is destroyed, and its standard and error output
+ * are drained concurrently. The count of processes in flight is bounded, further processes
+ * wait for a free slot within their timeout.
+ */
+public final class ProcessRunner {
+
+    /** System property with the default timeout of the shared runner in milliseconds. */
+    public static final String TIMEOUT_PROPERTY = "gsys.process.timeout";
+    /** System property with the maximum count of processes in flight of the shared runner. */
+    public static final String PARALLELISM_PROPERTY = "gsys.process.parallelism";
+
+    private static final ExecutorService DRAINERS = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("gsys-process-drain-%d").setDaemon(true).build());
+
+    private static final ProcessRunner SHARED = new ProcessRunner(
+            Duration.ofMillis(Long.getLong(TIMEOUT_PROPERTY, 30_000L)),
+            Integer.getInteger(PARALLELISM_PROPERTY, Math.max(4, Runtime.getRuntime().availableProcessors())));
+
+    private final Duration timeout;
+    private final Semaphore slots;
+
+    /**
+     * @param timeout       default time, after which a process is destroyed
+     * @param parallelism   maximum count of processes in flight
+     */
+    public ProcessRunner(@NotNull Duration timeout, int parallelism) {
+        if (timeout.isNegative() || timeout.isZero()) throw new IllegalArgumentException("The timeout must be positive.");
+        if (parallelism < 1) throw new IllegalArgumentException("At least one process must be in flight.");
+        this.timeout = timeout;
+        this.slots = new Semaphore(parallelism, true);
+    }
+
+    /** @return the runner, which is shared by all probes of the launcher */
+    public static @NotNull ProcessRunner shared() {
+        return SHARED;
+    }
+
+    /** @return default time, after which a process is destroyed */
+    public @NotNull Duration timeout() {
+        return timeout;
+    }
+
+    /** @see #run(Duration, String...) */
+    public @NotNull ProcessResult run(@NotNull String... command) throws IOException {
+        return run(timeout, command);
+    }
+
+    /**
+     * Runs a process to its end and collects its output.
+     * @param timeout   time, after which the process is destroyed
+     * @param command   command to be run
+     * @return  the collected result of the process
+     */
+    public @NotNull ProcessResult run(@NotNull Duration timeout, @NotNull String... command) throws IOException {
+        try (ProcessLines lines = lines(timeout, command)) {
+            return lines.result(lines.stream().toList());
+        }
+    }
+
+    /** @see #lines(Duration, String...) */
+    public @NotNull ProcessLines lines(@NotNull String... command) throws IOException {
+        return lines(timeout, command);
+    }
+
+    /**
+     * Starts a process, whose output is streamed line by line.
+     * The returned process must be closed, which destroys it if it is still running.
+     *
+     * @param timeout   time, after which the process is destroyed
+     * @param command   command to be run
+     * @return  the running process
+     */
+    public @NotNull ProcessLines lines(@NotNull Duration timeout, @NotNull String... command) throws IOException {
+        final List<String> cmd = Arrays.asList(command);
+        try {
+            if (!slots.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS))
+                throw new IOException("No free process slot for " + cmd + " within " + timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to run " + cmd);
+        }
+
+        try {
+            return new ProcessLines(cmd, new ProcessBuilder(cmd).start(), timeout, DRAINERS, slots::release);
+        } catch (IOException | RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package javax.sys.launch.def.browser;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+
+import org.system.factory.launcher.browser.provision.AdmissionController;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.concurrent.*;
+
+public class AdmissionControllerTest {
+
+    @Test public void waits_until_a_driver_is_released() throws Exception {
+        AdmissionController admission = new AdmissionController(2);
+        WebDriver first = new StubDriver(), second = new StubDriver();
+        admission.acquire(Duration.ZERO);
+        admission.admit(first);
+        admission.acquire(Duration.ZERO);
+        admission.admit(second);
+        assert admission.available() == 0;
+
+        try {
+            admission.acquire(Duration.ofMillis(50));
+            assert false : "the third browser must not be admitted";
+        } catch (TimeoutException e) {
+            /* expected, both permits are bound to running drivers */
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> waiting = executor.submit(() -> {
+                admission.acquire(Duration.ofSeconds(10));
+                return null;
+            });
+            while (admission.waiting() == 0) Thread.sleep(5);
+
+            assert admission.release(first);
+            waiting.get(10, TimeUnit.SECONDS);
+            /* A driver returns its permit only once, unknown drivers are ignored */
+            assert !admission.release(first) && !admission.release(new StubDriver());
+            assert admission.available() == 0;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Driver, whose session ends with its quit like the one of every remote-web-driver */
+    private static final class Session extends RemoteWebDriver {
+        private volatile SessionId session = new SessionId("stub");
+
+        @Override public SessionId getSessionId() {
+            return session;
+        }
+
+        @Override public void quit() {
+            session = null;
+        }
+    }
+
+    @Test public void reclaims_permits_of_directly_quit_sessions() throws Exception {
+        AdmissionController admission = new AdmissionController(1);
+        WebDriver session = new Session();
+        admission.acquire(Duration.ZERO);
+        admission.admit(session);
+        assert admission.reclaim() == 0;
+
+        /* The quit bypasses the teardown, the next start reclaims the permit of the ended session */
+        session.quit();
+        long start = System.nanoTime();
+        admission.acquire(Duration.ofSeconds(5));
+        assert System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2);
+        assert !admission.release(session) && admission.available() == 0;
+    }
+
+    @Test public void resize_changes_the_limit() throws Exception {
+        AdmissionController admission = new AdmissionController(2);
+        WebDriver first = new StubDriver(), second = new StubDriver();
+        admission.acquire(Duration.ZERO);
+        admission.admit(first);
+        admission.acquire(Duration.ZERO);
+        admission.admit(second);
+
+        /* Both running browsers have to be torn down, before a start is admitted again */
+        admission.resize(1);
+        assert admission.limit() == 1 && admission.available() == -1;
+        admission.release(first);
+        assert admission.available() == 0;
+        admission.release(second);
+        admission.acquire(Duration.ZERO);
+
+        admission.resize(3);
+        assert admission.available() == 2;
+    }
+
+    @Test public void default_limit_from_memory_and_cpus() {
+        assert AdmissionController.defaultLimit() >= 1;
+        assert AdmissionController.defaultLimit() <= Runtime.getRuntime().availableProcessors() * 2;
+        if (Files.isReadable(Paths.get("/proc/meminfo")))
+            assert AdmissionController.availableMemory().orElse(0) > 0;
+    }
+
+    @Test public void configured_limit_is_at_least_one() {
+        String previous = System.getProperty(AdmissionController.LIMIT_PROPERTY);
+        try {
+            System.setProperty(AdmissionController.LIMIT_PROPERTY, "0");
+            assert AdmissionController.defaultLimit() == 1;
+            System.setProperty(AdmissionController.LIMIT_PROPERTY, "3");
+            assert AdmissionController.defaultLimit() == 3;
+        } finally {
+            if (previous == null) System.clearProperty(AdmissionController.LIMIT_PROPERTY);
+            else System.setProperty(AdmissionController.LIMIT_PROPERTY, previous);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package javax.sys.launch.def.browser;
+
+import org.junit.jupiter.api.Test;
+
+import org.system.factory.launcher.browser.plattform.BrowserMatcher;
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+public class BrowserMatcherTest {
+
+    @Test public void leftmost_match_wins() {
+        BrowserMatcher matcher = BrowserMatcher.all();
+
+        /* CHROME is declared before MSEDGE, but the position in the line decides */
+        assert matcher.match("ProgId REG_SZ MSEdgeHTM (was ChromeHTML)").equals(Optional.of(DriverInstance.MSEDGE));
+        assert matcher.match("ProgId REG_SZ ChromeHTML (was MSEdgeHTM)").equals(Optional.of(DriverInstance.CHROME));
+        assert matcher.match("    ProgId    REG_SZ    IE.HTTP").equals(Optional.of(DriverInstance.IEXPLORER));
+        assert matcher.match("ProgId REG_SZ OperaStable").isEmpty();
+    }
+
+    @Test public void only_the_instances_of_the_set_are_detected() {
+        BrowserMatcher matcher = BrowserMatcher.of(List.of(DriverInstance.FIREFOX));
+
+        assert matcher.match("ChromeHTML FirefoxURL-308046B0AF4A39CB").equals(Optional.of(DriverInstance.FIREFOX));
+        assert matcher.match("ChromeHTML").isEmpty();
+    }
+
+    @Test public void matchers_are_shared_for_equal_sets() {
+        assert BrowserMatcher.of(List.of(DriverInstance.CHROME, DriverInstance.FIREFOX))
+                == BrowserMatcher.of(EnumSet.of(DriverInstance.FIREFOX, DriverInstance.CHROME));
+        assert BrowserMatcher.all() == BrowserMatcher.of(EnumSet.allOf(DriverInstance.class));
+        try {
+            BrowserMatcher.of(List.of());
+            assert false : "an empty set must be rejected";
+        } catch (IllegalArgumentException e) {
+            //None content...
+        }
+    }
+
+    @Test public void first_stops_at_the_first_named_instance() {
+        AtomicInteger read = new AtomicInteger();
+        Stream<String> lines = Stream.of("HKEY_CURRENT_USER\\...\\UserChoice", "    Hash    REG_SZ    x1",
+                "    ProgId    REG_SZ    FirefoxURL-308046B0AF4A39CB", "    ProgId    REG_SZ    ChromeHTML").peek(line -> read.incrementAndGet());
+
+        assert BrowserMatcher.all().first(lines).equals(Optional.of(DriverInstance.FIREFOX));
+        assert read.get() == 3;
+    }
+}
@@ -0,0 +1,82 @@
+package javax.sys.launch.def.browser;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+import org.system.factory.launcher.browser.resolve.DriverConstructors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+public class DriverConstructorsTest {
+
+    /** Browser class with a public no-arg constructor, which counts its instances without starting a browser. */
+    public static class CountingDriver extends RemoteWebDriver {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        public CountingDriver() {
+            CREATED.incrementAndGet();
+        }
+    }
+
+    /** Browser class, whose constructor fails like a browser, which cannot be started. */
+    public static class FailingDriver extends RemoteWebDriver {
+
+        public FailingDriver() {
+            throw new IllegalStateException("browser not installed");
+        }
+    }
+
+    @Test public void constructor_is_looked_up_once() throws ReflectiveOperationException {
+        Supplier<WebDriver> constructor = DriverConstructors.constructor(CountingDriver.class.getName());
+        assert constructor == DriverConstructors.constructor(CountingDriver.class.getName());
+
+        int created = CountingDriver.CREATED.get();
+        WebDriver first = constructor.get(), second = constructor.get();
+        assert first instanceof CountingDriver && second instanceof CountingDriver && first != second;
+        assert CountingDriver.CREATED.get() == created + 2;
+    }
+
+    @Test public void constructor_failures_are_thrown_unwrapped() throws ReflectiveOperationException {
+        Supplier<WebDriver> constructor = DriverConstructors.constructor(FailingDriver.class.getName());
+        try {
+            constructor.get();
+            assert false : "the failure of the constructor must be thrown";
+        } catch (IllegalStateException e) {
+            assert e.getMessage().equals("browser not installed");
+        }
+    }
+
+    @Test public void unknown_browser_classes_are_rejected() {
+        try {
+            DriverConstructors.constructor("org.openqa.selenium.netscape.NetscapeDriver");
+            assert false : "an unknown class must not be constructed";
+        } catch (ReflectiveOperationException e) {
+            assert e instanceof ClassNotFoundException : e;
+        }
+        try {
+            /* The constructor of the remote driver is protected */
+            DriverConstructors.constructor(RemoteWebDriver.class.getName());
+            assert false : "a class without public no-arg constructor must not be constructed";
+        } catch (ReflectiveOperationException e) {
+            assert e instanceof NoSuchMethodException || e instanceof IllegalAccessException : e;
+        }
+    }
+
+    @Test public void registration_replaces_the_browser_class() {
+        Supplier<WebDriver> factory = CountingDriver::new;
+        try {
+            DriverConstructors.register(DriverInstance.MSEDGE, factory, false);
+            DriverConstructors.Registration registration = DriverConstructors.registration(DriverInstance.MSEDGE);
+            assert registration != null && registration.factory() == factory && !registration.resolve();
+
+            DriverConstructors.register(DriverInstance.MSEDGE, factory);
+            assert DriverConstructors.registration(DriverInstance.MSEDGE).resolve();
+        } finally {
+            DriverConstructors.unregister(DriverInstance.MSEDGE);
+        }
+        assert DriverConstructors.registration(DriverInstance.MSEDGE) == null;
+    }
+}
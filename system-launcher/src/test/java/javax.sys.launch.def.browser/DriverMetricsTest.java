@@ -0,0 +1,70 @@
+package javax.sys.launch.def.browser;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import org.system.factory.launcher.browser.metrics.*;
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+import org.system.factory.launcher.browser.pool.GDriverPool;
+import org.system.factory.launcher.browser.pool.PoolSettings;
+import org.system.factory.launcher.browser.resolve.DriverConstructors;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+public class DriverMetricsTest {
+
+    @Test public void in_memory_percentiles() {
+        InMemoryRecorder recorder = new InMemoryRecorder();
+        IntStream.rangeClosed(1, 1_000).parallel().forEach(millis -> recorder.record(Phase.CONSTRUCT,
+                DriverInstance.CHROME, TimeUnit.MILLISECONDS.toNanos(millis), millis % 100 != 0));
+
+        MetricsSnapshot.Stats stats = recorder.snapshot().stats(Phase.CONSTRUCT, DriverInstance.CHROME);
+        assert stats.count() == 1_000 && stats.failures() == 10;
+        assert stats.max().equals(Duration.ofMillis(1_000));
+        /* Buckets have a relative error of at most 12.5 percent */
+        assert Math.abs(stats.p50().toMillis() - 500) <= 500 / 8 : stats;
+        assert Math.abs(stats.p99().toMillis() - 990) <= 990 / 8 : stats;
+        assert recorder.snapshot().stats(Phase.CONSTRUCT, DriverInstance.FIREFOX).count() == 0;
+    }
+
+    @Test public void pool_lifecycle_is_recorded() throws Exception {
+        InMemoryRecorder recorder = new InMemoryRecorder();
+        MetricsRecorder previous = DriverMetrics.install(recorder);
+        DriverConstructors.register(DriverInstance.IEXPLORER, StubDriver::new, false);
+        try {
+            try (GDriverPool pool = new GDriverPool(DriverInstance.IEXPLORER, PoolSettings.DEFAULT)) {
+                WebDriver first = pool.borrow(), second = pool.borrow();
+                assert recorder.snapshot().sessions(DriverInstance.IEXPLORER) == 2;
+                pool.release(first);
+                pool.release(second);
+            }
+            MetricsSnapshot snapshot = recorder.snapshot();
+            assert snapshot.stats(Phase.CONSTRUCT, DriverInstance.IEXPLORER).count() == 2;
+            assert snapshot.stats(Phase.RESET, DriverInstance.IEXPLORER).count() == 2;
+            assert snapshot.stats(Phase.TEARDOWN, DriverInstance.IEXPLORER).count() == 2;
+            assert snapshot.sessions(DriverInstance.IEXPLORER) == 0;
+        } finally {
+            DriverConstructors.unregister(DriverInstance.IEXPLORER);
+            DriverMetrics.install(previous);
+        }
+    }
+
+    @Test public void micrometer_adapter_exports_timers_and_gauges() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerRecorder recorder = new MicrometerRecorder(registry);
+
+        recorder.record(Phase.RESOLVE, DriverInstance.FIREFOX, TimeUnit.MILLISECONDS.toNanos(20), true);
+        recorder.record(Phase.RESOLVE, DriverInstance.FIREFOX, TimeUnit.MILLISECONDS.toNanos(40), true);
+        recorder.record(Phase.PROBE, null, 1_000, false);
+        recorder.sessions(DriverInstance.FIREFOX, 3);
+        recorder.sessions(DriverInstance.FIREFOX, -1);
+
+        Timer resolve = registry.get(MicrometerRecorder.PHASE_TIMER).tags("phase", "resolve", "instance", "firefox").timer();
+        assert resolve.count() == 2 && resolve.max(TimeUnit.MILLISECONDS) == 40;
+        assert registry.get(MicrometerRecorder.PHASE_TIMER).tags("outcome", "failure").timer().count() == 1;
+        assert registry.get(MicrometerRecorder.SESSION_GAUGE).tags("instance", "firefox").gauge().value() == 2;
+    }
+}
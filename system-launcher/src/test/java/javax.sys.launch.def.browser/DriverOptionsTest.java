@@ -0,0 +1,56 @@
+package javax.sys.launch.def.browser;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import org.system.factory.launcher.browser.options.DriverProfile;
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+import org.system.factory.launcher.browser.resolve.DriverConstructors;
+import java.util.List;
+import java.util.Map;
+
+public class DriverOptionsTest {
+
+    /** Browser class, which takes its options like the {@code ChromeDriver}, without starting a browser. */
+    public static class OptionsDriver extends RemoteWebDriver {
+
+        private final ChromeOptions options;
+
+        public OptionsDriver(ChromeOptions options) {
+            this.options = options;
+        }
+
+        @Override public Capabilities getCapabilities() {
+            return options;
+        }
+    }
+
+    @Test public void lean_options_per_browser() {
+        Capabilities chrome = DriverInstance.CHROME.options(DriverProfile.LEAN);
+        assert chrome instanceof ChromeOptions;
+        assert chrome.getCapability("pageLoadStrategy") == PageLoadStrategy.EAGER;
+        @SuppressWarnings("unchecked")
+        List<String> args = (List<String>) ((Map<String, Object>) chrome.getCapability(ChromeOptions.CAPABILITY)).get("args");
+        assert args.contains("--headless") && args.contains("--disable-extensions");
+
+        Capabilities firefox = DriverInstance.FIREFOX.options(DriverProfile.LEAN);
+        assert firefox instanceof FirefoxOptions && firefox.getCapability("pageLoadStrategy") == PageLoadStrategy.EAGER;
+
+        assert DriverInstance.CHROME.options(DriverProfile.DEFAULT).getCapability("pageLoadStrategy") == null;
+        /* The options are built once and shared */
+        assert chrome == DriverInstance.CHROME.options(DriverProfile.LEAN);
+    }
+
+    @Test public void options_constructor() throws ReflectiveOperationException {
+        Capabilities options = DriverInstance.CHROME.options(DriverProfile.LEAN);
+        WebDriver driver = DriverConstructors.constructor(OptionsDriver.class.getName(), options).get();
+
+        assert driver instanceof OptionsDriver;
+        assert ((OptionsDriver) driver).getCapabilities() == options;
+    }
+}
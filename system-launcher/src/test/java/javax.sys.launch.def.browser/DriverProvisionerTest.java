@@ -0,0 +1,76 @@
+package javax.sys.launch.def.browser;
+
+import org.junit.jupiter.api.Test;
+
+import org.system.factory.launcher.browser.err.ProvisionException;
+import org.system.factory.launcher.browser.provision.DriverProvisioner;
+import org.system.factory.launcher.browser.provision.ProvisionResult;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+public class DriverProvisionerTest {
+
+    @Test public void provision_starts_in_parallel() {
+        long start = System.nanoTime();
+        ProvisionResult<Integer> result = DriverProvisioner.provision(8, 8, Duration.ofSeconds(10), () -> {
+            Thread.sleep(200);
+            return 1;
+        }, instance -> {});
+
+        assert result.isComplete() && result.drivers().size() == 8;
+        assert System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(200L * 8 / 2);
+    }
+
+    @Test public void provision_reports_failures_with_the_created_instances() {
+        AtomicInteger calls = new AtomicInteger();
+        ProvisionResult<Integer> result = DriverProvisioner.provision(4, 2, Duration.ofSeconds(10), () -> {
+            int call = calls.incrementAndGet();
+            if (call % 2 == 0) throw new IllegalStateException("start " + call);
+            return call;
+        }, instance -> {});
+
+        assert result.drivers().size() == 2 && result.failures().size() == 2;
+        assert result.failures().stream().allMatch(IllegalStateException.class::isInstance);
+    }
+
+    @Test public void late_instance_is_discarded() throws Exception {
+        BlockingQueue<Object> discarded = new LinkedBlockingQueue<>();
+        AtomicInteger calls = new AtomicInteger();
+        Object late = new Object();
+
+        /* The second start ignores its interrupt and finishes well after the timeout */
+        ProvisionResult<Object> result = DriverProvisioner.provision(2, 2, Duration.ofMillis(200), () -> {
+            if (calls.incrementAndGet() == 1) return "fast";
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(600);
+            while (System.nanoTime() < deadline) LockSupport.parkNanos(deadline - System.nanoTime());
+            return late;
+        }, discarded::add);
+
+        assert result.drivers().equals(List.of("fast")) : result;
+        assert result.failures().size() == 1 && result.failures().get(0) instanceof TimeoutException;
+        assert discarded.poll(5, TimeUnit.SECONDS) == late;
+    }
+
+    @Test public void get_or_throw_builds_a_new_exception() {
+        ProvisionResult<Object> result = new ProvisionResult<>(List.of("created"),
+                List.of(new TimeoutException("first"), new IllegalStateException("second")));
+
+        ProvisionException first = thrown(result), second = thrown(result);
+        assert first != second && first.getCause() == second.getCause();
+        assert first.getCause() instanceof TimeoutException;
+        assert first.getSuppressed().length == 1 && second.getSuppressed().length == 1;
+        assert first.getMessage().startsWith("2 of 3 instances");
+    }
+
+    private static ProvisionException thrown(ProvisionResult<?> result) {
+        try {
+            result.getOrThrow();
+            throw new AssertionError("an incomplete provisioning must throw");
+        } catch (ProvisionException e) {
+            return e;
+        }
+    }
+}
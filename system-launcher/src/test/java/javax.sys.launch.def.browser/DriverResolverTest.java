@@ -0,0 +1,76 @@
+package javax.sys.launch.def.browser;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+import org.system.factory.launcher.browser.resolve.DriverResolution;
+import org.system.factory.launcher.browser.resolve.DriverResolver;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class DriverResolverTest {
+
+    private static final String EXPORT_KEY = "webdriver.chrome.driver";
+
+    private Path cache;
+    private Path binary;
+
+    /** Pre-populates the cache like a former run would, so that no test reaches the network */
+    @BeforeEach public void populate() throws Exception {
+        cache = Files.createTempDirectory("gsys-drivers");
+        System.setProperty(DriverResolver.CACHE_PROPERTY, cache.toString());
+        DriverResolver.invalidate(DriverInstance.CHROME);
+
+        binary = Files.createFile(cache.resolve("chromedriver"));
+        assert binary.toFile().setExecutable(true);
+        Files.writeString(cache.resolve("chrome.properties"), "driver.path=" + binary.toAbsolutePath()
+                .toString().replace("\\", "\\\\") + "\ndriver.version=99.0.1\n");
+    }
+
+    @AfterEach public void clear() {
+        DriverResolver.invalidate(DriverInstance.CHROME);
+        System.clearProperty(DriverResolver.CACHE_PROPERTY);
+        System.clearProperty(EXPORT_KEY);
+    }
+
+    @Test public void resolution_is_answered_offline_from_the_cache() {
+        DriverResolution resolution = DriverResolver.resolve(DriverInstance.CHROME);
+
+        assert resolution.driverPath().equals(binary.toAbsolutePath()) : resolution;
+        assert resolution.driverVersion().equals("99.0.1");
+        assert resolution.browserClass().equals("org.openqa.selenium.chrome.ChromeDriver") : resolution;
+        assert binary.toAbsolutePath().toString().equals(System.getProperty(EXPORT_KEY));
+        assert DriverResolver.resolve(DriverInstance.CHROME) == resolution;
+    }
+
+    @Test public void parallel_resolutions_share_one_result() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<DriverResolution>> futures = executor.invokeAll(IntStream.range(0, 8)
+                    .<Callable<DriverResolution>>mapToObj(i -> () -> DriverResolver.resolve(DriverInstance.CHROME))
+                    .collect(Collectors.toList()));
+            DriverResolution first = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<DriverResolution> future : futures) assert future.get(5, TimeUnit.SECONDS) == first;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test public void invalidate_drops_memory_and_disk() throws Exception {
+        DriverResolution resolution = DriverResolver.resolve(DriverInstance.CHROME);
+        DriverResolver.invalidate(DriverInstance.CHROME);
+        assert Files.notExists(cache.resolve("chrome.properties"));
+
+        /* A new entry, like after a browser update, is read by the next resolution */
+        Files.writeString(cache.resolve("chrome.properties"), "driver.path=" + binary.toAbsolutePath()
+                .toString().replace("\\", "\\\\") + "\ndriver.version=100.0.0\n");
+        DriverResolution updated = DriverResolver.resolve(DriverInstance.CHROME);
+        assert updated != resolution && updated.driverVersion().equals("100.0.0");
+    }
+}
@@ -0,0 +1,50 @@
+package javax.sys.launch.def.browser;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import org.system.factory.launcher.browser.GDriverFactory;
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+import org.system.factory.launcher.browser.plattform.ExplorerValueMapper;
+import org.system.factory.launcher.browser.teardown.DriverTeardown;
+import org.system.factory.launcher.browser.teardown.TeardownReport;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+public class DriverTeardownTest {
+
+    @Test public void teardown_quits_in_parallel() {
+        AtomicInteger quits = new AtomicInteger();
+        List<WebDriver> drivers = IntStream.range(0, 8).<WebDriver>mapToObj(i -> new StubDriver().quitMillis(300).quits(quits)).toList();
+
+        TeardownReport report = DriverTeardown.teardown(drivers, 8, Duration.ofSeconds(5));
+
+        assert report.isClean() && quits.get() == drivers.size();
+        assert report.elapsed().compareTo(Duration.ofMillis(300L * drivers.size() / 2)) < 0 : report;
+    }
+
+    @Test public void teardown_cuts_off_hanging_quit() {
+        AtomicInteger quits = new AtomicInteger();
+        List<WebDriver> drivers = List.of(new StubDriver().quits(quits), new StubDriver().quitMillis(10_000).quits(quits));
+
+        TeardownReport report = DriverTeardown.teardown(drivers, 2, Duration.ofMillis(200));
+
+        assert report.count(TeardownReport.Status.QUIT) == 1 && report.count(TeardownReport.Status.FAILED) == 1;
+        assert report.outcomes().get(1).failure() instanceof TimeoutException;
+        assert report.elapsed().compareTo(Duration.ofSeconds(5)) < 0 : report;
+    }
+
+    @Test public void factory_close_drains_its_sessions() {
+        AtomicInteger quits = new AtomicInteger();
+        GDriverFactory factory = new GDriverFactory(DriverInstance.CHROME, 4711L, true);
+        IntStream.range(0, 3).forEach(i -> ExplorerValueMapper.registry.register(factory.id(), new StubDriver().quits(quits)));
+
+        factory.close();
+
+        assert quits.get() == 3;
+        assert ExplorerValueMapper.registry.sessions(factory.id()).isEmpty();
+    }
+}
@@ -0,0 +1,172 @@
+package javax.sys.launch.def.browser;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+import org.system.factory.launcher.browser.plattform.ExplorerValueMapper;
+import org.system.factory.launcher.browser.pool.GDriverPool;
+import org.system.factory.launcher.browser.pool.PoolSettings;
+import org.system.factory.launcher.browser.resolve.DriverConstructors;
+import org.system.factory.launcher.browser.reset.DriverReset;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+public class GDriverPoolTest {
+
+    /** Browser, which is never installed on the build nodes, so its factory is replaced by stubs */
+    private static final DriverInstance INSTANCE = DriverInstance.IEXPLORER;
+
+    private final AtomicInteger started = new AtomicInteger();
+    private final List<String> visited = new CopyOnWriteArrayList<>();
+    private volatile long navigationMillis;
+
+    private WebDriver stub() {
+        started.incrementAndGet();
+        return new StubDriver().navigationMillis(navigationMillis).visited(visited);
+    }
+
+    @AfterEach public void unregister() {
+        DriverConstructors.unregister(INSTANCE);
+    }
+
+    private static void await(GDriverPool pool, int idle) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pool.idleCount() < idle && System.nanoTime() < deadline) Thread.sleep(10);
+    }
+
+    @Test public void warm_up_starts_target_instances() throws Exception {
+        DriverConstructors.register(INSTANCE, this::stub, false);
+        PoolSettings settings = PoolSettings.DEFAULT.withMaxSize(4).withTarget(3);
+
+        try (GDriverPool pool = new GDriverPool(INSTANCE, settings)) {
+            assert pool.warmUp().get(5, TimeUnit.SECONDS) == 0;
+            assert pool.idleCount() == 3 && pool.liveCount() == 3 && started.get() == 3;
+
+            /* Without minIdle, borrowed drivers are not refilled */
+            pool.borrow();
+            assert pool.idleCount() == 2 && started.get() == 3;
+        }
+    }
+
+    @Test public void borrow_refills_min_idle_in_background() throws Exception {
+        DriverConstructors.register(INSTANCE, this::stub, false);
+        PoolSettings settings = PoolSettings.DEFAULT.withMaxSize(3).withMinIdle(2);
+
+        try (GDriverPool pool = new GDriverPool(INSTANCE, settings)) {
+            await(pool, 2);
+            WebDriver first = pool.borrow(), second = pool.borrow();
+            await(pool, 1);
+            /* The maximum size bounds the refill: two borrowed and one idle driver */
+            assert pool.liveCount() == 3 && pool.idleCount() == 1;
+
+            pool.release(first);
+            pool.release(second);
+            assert pool.idleCount() == 3 && started.get() == 3;
+        }
+    }
+
+    @Test public void release_resets_the_driver() throws Exception {
+        DriverConstructors.register(INSTANCE, this::stub, false);
+
+        try (GDriverPool pool = new GDriverPool(INSTANCE, PoolSettings.DEFAULT)) {
+            WebDriver driver = pool.borrow();
+            pool.release(driver);
+            assert visited.equals(List.of("about:blank")) && pool.idleCount() == 1;
+            assert pool.borrow() == driver;
+        }
+    }
+
+    @Test public void release_discards_driver_whose_reset_times_out() throws Exception {
+        DriverConstructors.register(INSTANCE, this::stub, false);
+        navigationMillis = 10_000;
+        String previous = System.getProperty(DriverReset.TIMEOUT_PROPERTY);
+        System.setProperty(DriverReset.TIMEOUT_PROPERTY, "300");
+
+        try (GDriverPool pool = new GDriverPool(INSTANCE, PoolSettings.DEFAULT)) {
+            WebDriver driver = pool.borrow();
+            assert !DriverReset.reset(driver, Duration.ofMillis(100));
+
+            long start = System.nanoTime();
+            pool.release(driver);
+            assert pool.idleCount() == 0 && pool.liveCount() == 0;
+            assert System.nanoTime() - start < DriverReset.defaultTimeout().toNanos() * 2;
+        } finally {
+            if (previous == null) System.clearProperty(DriverReset.TIMEOUT_PROPERTY);
+            else System.setProperty(DriverReset.TIMEOUT_PROPERTY, previous);
+        }
+    }
+
+    @Test public void close_quits_drivers_of_an_interrupted_warm_up() throws Exception {
+        AtomicInteger quits = new AtomicInteger();
+        /* The start ignores the interrupt of the close and finishes afterwards */
+        DriverConstructors.register(INSTANCE, () -> {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+            while (System.nanoTime() < deadline) LockSupport.parkNanos(deadline - System.nanoTime());
+            return new StubDriver().quits(quits);
+        }, false);
+
+        GDriverPool pool = new GDriverPool(INSTANCE, PoolSettings.DEFAULT.withTarget(1));
+        Thread.sleep(50);
+        pool.close();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (quits.get() == 0 && System.nanoTime() < deadline) Thread.sleep(10);
+        assert quits.get() == 1 && pool.liveCount() == 0 && pool.idleCount() == 0;
+        assert ExplorerValueMapper.registry.sessions(pool.id()).isEmpty();
+    }
+
+    @Test public void borrow_is_bounded_by_the_maximum_size() throws Exception {
+        DriverConstructors.register(INSTANCE, this::stub, false);
+        PoolSettings settings = PoolSettings.DEFAULT.withMaxSize(2).withBorrowTimeout(Duration.ofMillis(200));
+
+        try (GDriverPool pool = new GDriverPool(INSTANCE, settings)) {
+            WebDriver first = pool.borrow(), second = pool.borrow();
+            assert first != second && pool.liveCount() == 2;
+            try {
+                pool.borrow();
+                assert false : "the pool must not exceed its maximum size";
+            } catch (TimeoutException e) {
+                //None content...
+            }
+            try {
+                pool.release(new StubDriver());
+                assert false : "a foreign driver must not be released into the pool";
+            } catch (IllegalArgumentException e) {
+                //None content...
+            }
+
+            pool.release(first);
+            assert pool.borrow() == first && started.get() == 2;
+        }
+    }
+
+    @Test public void release_after_close_quits_quietly() throws Exception {
+        AtomicInteger quits = new AtomicInteger();
+        DriverConstructors.register(INSTANCE, () -> new StubDriver().quits(quits), false);
+
+        GDriverPool pool = new GDriverPool(INSTANCE, PoolSettings.DEFAULT);
+        WebDriver driver = pool.borrow();
+        pool.close();
+        assert quits.get() == 1;
+
+        pool.release(driver);
+        assert quits.get() == 1 && pool.liveCount() == 0;
+    }
+
+    @Test public void settings_validate_warm_up() {
+        try {
+            PoolSettings.DEFAULT.withMaxSize(2).withMinIdle(3);
+            assert false : "minIdle must not exceed the maximum size";
+        } catch (IllegalArgumentException e) {
+            //None content...
+        }
+        assert new PoolSettings(4, Duration.ofMinutes(1), Duration.ZERO, 1, 2).warmUpSize() == 2;
+    }
+}
@@ -0,0 +1,65 @@
+package javax.sys.launch.def.browser;
+
+import org.junit.jupiter.api.Test;
+
+import org.system.factory.launcher.utils.PortAllocator;
+import org.system.factory.launcher.utils.PortScanner;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+public class PortAllocatorTest {
+
+    /* First port of a range of the given size, picked at runtime from a port just handed out by the system */
+    private static int firstPort(int size) throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return Math.max(1_024, Math.min(socket.getLocalPort(), PortScanner.MAX_PORT - size + 1));
+        }
+    }
+
+    @Test public void lease_parallel_without_duplicates() throws Exception {
+        int first = firstPort(2_000), last = first + 1_999;
+        PortAllocator allocator = new PortAllocator(first, last, PortScanner.Protocol.TCP, false);
+        /* Half of the ports found free, so ports taken meanwhile by the host do not exhaust the range */
+        int count = Math.min(1_000, new PortScanner(PortScanner.Protocol.TCP, 8).available(first, last).cardinality() / 2);
+        Set<Integer> ports = ConcurrentHashMap.newKeySet();
+
+        List<PortAllocator.PortLease> leases = IntStream.range(0, count).parallel()
+                .mapToObj(i -> allocator.tryLease().orElseThrow())
+                .peek(lease -> {assert ports.add(lease.port()) : "duplicate port " + lease.port();})
+                .toList();
+
+        assert count > 0 && allocator.leased() == leases.size();
+        leases.forEach(PortAllocator.PortLease::close);
+        assert allocator.leased() == 0;
+    }
+
+    @Test public void lease_keeps_port_bound_until_handoff() throws Exception {
+        int first = firstPort(64);
+        PortAllocator allocator = new PortAllocator(first, first + 63);
+        try (PortAllocator.PortLease lease = allocator.lease()) {
+            assert !PortScanner.isAvailable(lease.port(), PortScanner.Protocol.TCP);
+            lease.handoff();
+            try (ServerSocket consumer = new ServerSocket(lease.port())) {
+                assert consumer.isBound();
+            }
+        }
+    }
+
+    @Test public void lease_skips_ports_of_other_processes() throws Exception {
+        try (ServerSocket foreign = new ServerSocket(0)) {
+            int held = foreign.getLocalPort();
+            int free = PortScanner.isAvailable(held + 1, PortScanner.Protocol.TCP) ? held + 1 : held - 1;
+            assert PortScanner.isAvailable(free, PortScanner.Protocol.TCP);
+
+            PortAllocator allocator = new PortAllocator(Math.min(held, free), Math.max(held, free));
+            try (PortAllocator.PortLease lease = allocator.lease()) {
+                assert lease.port() == free;
+                assert allocator.tryLease().isEmpty();
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package javax.sys.launch.def.browser;
+
+import org.junit.jupiter.api.Test;
+
+import org.system.factory.launcher.utils.PortScanner;
+import org.system.factory.launcher.utils.PortScanner.Protocol;
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.BitSet;
+
+public class PortScannerTest {
+
+    /* Below the ephemeral range of the common systems, so client connections do not change the result */
+    private static final int FIRST = 20_000, LAST = 20_999;
+
+    @Test public void bound_ports_are_not_available() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            int port = socket.getLocalPort();
+            assert !PortScanner.isAvailable(port, Protocol.TCP);
+            assert !PortScanner.isAvailable(port, Protocol.BOTH);
+
+            int first = Math.max(1, port - 100), last = Math.min(PortScanner.MAX_PORT, port + 100);
+            BitSet available = new PortScanner(Protocol.TCP, 4).available(first, last);
+            assert !available.get(port);
+            assert available.nextSetBit(0) >= first && available.length() <= last + 1;
+        }
+        assert !PortScanner.isAvailable(0, Protocol.TCP) && !PortScanner.isAvailable(PortScanner.MAX_PORT + 1, Protocol.UDP);
+    }
+
+    @Test public void parallel_scan_equals_the_sequential_one() {
+        BitSet sequential = new PortScanner(Protocol.TCP, 1).available(FIRST, LAST);
+        BitSet parallel = new PortScanner(Protocol.TCP, 8).available(FIRST, LAST);
+
+        assert sequential.equals(parallel);
+        assert sequential.nextSetBit(0) >= FIRST && sequential.length() <= LAST + 1;
+    }
+
+    @Test public void limited_scan_returns_the_first_free_ports() {
+        BitSet all = new PortScanner(Protocol.TCP, 1).available(FIRST, LAST);
+        int[] first = new PortScanner(Protocol.TCP, 8).firstAvailable(FIRST, LAST, 5);
+
+        assert Arrays.equals(first, all.stream().limit(5).toArray()) : Arrays.toString(first);
+        assert new PortScanner(Protocol.TCP, 8).available(FIRST, LAST, 0).isEmpty();
+    }
+
+    @Test public void limited_scan_skips_ports_of_other_processes() throws Exception {
+        try (ServerSocket foreign = new ServerSocket(0)) {
+            int held = foreign.getLocalPort();
+            int first = Math.max(1, held - 5), last = Math.min(PortScanner.MAX_PORT, held + 5);
+            BitSet free = new PortScanner(Protocol.TCP, 4).available(first, last);
+            assert !free.get(held);
+
+            int[] firstFree = new PortScanner(Protocol.TCP, 4).firstAvailable(first, last, 3);
+            assert Arrays.equals(firstFree, free.stream().limit(3).toArray()) : Arrays.toString(firstFree);
+            assert Arrays.stream(firstFree).noneMatch(port -> port == held);
+        }
+    }
+
+    @Test public void invalid_ranges_are_rejected() {
+        for (int[] range : new int[][] {{-1, 10}, {10, PortScanner.MAX_PORT + 1}, {20, 10}}) {
+            try {
+                PortScanner.shared().available(range[0], range[1]);
+                assert false : "the range " + Arrays.toString(range) + " must be rejected";
+            } catch (IllegalArgumentException e) {
+                //None content...
+            }
+        }
+        try {
+            new PortScanner(Protocol.TCP, 0);
+            assert false : "a concurrency of zero must be rejected";
+        } catch (IllegalArgumentException e) {
+            //None content...
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package javax.sys.launch.def.browser;
+
+import org.junit.jupiter.api.Test;
+
+import org.system.factory.launcher.browser.reaper.ProcessReaper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+public class ProcessReaperTest {
+
+    @Test public void reap_kills_processes_of_dead_owners() throws Exception {
+        Path journal = Files.createTempDirectory("gsys-journal");
+        Path tmp = Files.createTempDirectory("gsys-tmp");
+        ProcessReaper reaper = new ProcessReaper(journal, tmp);
+
+        Process orphan = new ProcessBuilder("sleep", "30").start();
+        try {
+            /* Journal of this JVM, whose owner is alive */
+            reaper.record(1L, List.of(orphan.toHandle()));
+            assert reaper.reap().processes() == 0 && orphan.isAlive();
+
+            /* Journal of a JVM, which has died: same pid but another start instant */
+            long start = orphan.toHandle().info().startInstant().orElseThrow().toEpochMilli();
+            Files.writeString(journal.resolve("dead.journal"), "owner " + ProcessHandle.current().pid() + " 0\n"
+                    + orphan.pid() + " " + start + "\n");
+            assert reaper.reap().processes() == 1;
+            assert orphan.waitFor(5, TimeUnit.SECONDS);
+            assert Files.notExists(journal.resolve("dead.journal"));
+        } finally {
+            orphan.destroyForcibly();
+            reaper.forget(1L);
+        }
+    }
+
+    @Test public void reap_removes_recorded_files_only() throws Exception {
+        Path journal = Files.createTempDirectory("gsys-journal");
+        Path tmp = Files.createTempDirectory("gsys-tmp");
+        Path outside = Files.createTempDirectory("gsys-outside");
+        ProcessReaper reaper = new ProcessReaper(journal, tmp);
+
+        Path recorded = Files.createDirectories(tmp.resolve("rust_mozprofile1234"));
+        Files.createFile(recorded.resolve("prefs.js"));
+        /* Files of other users of the temporary folder look alike, but are not recorded */
+        Path foreign = Files.createDirectories(tmp.resolve("scoped_dir5678"));
+        Files.setLastModifiedTime(foreign, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+
+        Files.writeString(journal.resolve("dead.journal"), "owner " + ProcessHandle.current().pid() + " 0\n"
+                + "file " + recorded + "\n" + "file " + outside + "\n" + "file " + tmp + "\n");
+
+        assert reaper.reap().files() == 1;
+        assert Files.notExists(recorded) && Files.exists(foreign) && Files.exists(outside) && Files.exists(tmp);
+    }
+
+    @Test public void temporary_files_of_command_lines() throws Exception {
+        Path tmp = Files.createTempDirectory("gsys-tmp");
+        ProcessReaper reaper = new ProcessReaper(Files.createTempDirectory("gsys-journal"), tmp);
+
+        Set<Path> files = reaper.temporaryFiles("/opt/chrome/chrome --user-data-dir=" + tmp.resolve(".org.chromium.x")
+                + " --load-extension=" + tmp.resolve("scoped_dir1/internal") + " -profile " + tmp.resolve("rust_mozprofile2")
+                + " --log-path=/var/log/chrome.log " + tmp);
+        assert files.equals(Set.of(tmp.resolve(".org.chromium.x"), tmp.resolve("scoped_dir1"),
+                tmp.resolve("rust_mozprofile2"))) : files;
+    }
+
+    @Test public void record_of_a_driver_without_service_is_skipped() throws Exception {
+        Path journal = Files.createTempDirectory("gsys-journal");
+        ProcessReaper reaper = new ProcessReaper(journal, Files.createTempDirectory("gsys-tmp"));
+
+        /* The driver is journaled in the background and has no local service */
+        reaper.record(2L, new StubDriver());
+        reaper.forget(2L);
+        reaper.record(3L, List.of());
+        Thread.sleep(200);
+        try (Stream<Path> files = Files.list(journal)) {
+            assert files.findAny().isEmpty();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package javax.sys.launch.def.browser;
+
+import org.junit.jupiter.api.Test;
+
+import org.system.factory.launcher.utils.process.ProcessLines;
+import org.system.factory.launcher.utils.process.ProcessResult;
+import org.system.factory.launcher.utils.process.ProcessRunner;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ProcessRunnerTest {
+
+    private final ProcessRunner runner = new ProcessRunner(Duration.ofSeconds(10), 2);
+
+    @Test public void run_collects_both_outputs() throws IOException {
+        ProcessResult result = runner.run("sh", "-c", "echo out; echo err >&2; exit 3");
+
+        assert result.stdout().equals(List.of("out")) : result;
+        assert result.stderr().equals(List.of("err")) : result;
+        assert result.exitCode() == 3 && !result.timedOut() && !result.isSuccess();
+        assert runner.run("true").isSuccess();
+    }
+
+    @Test public void run_destroys_processes_after_their_timeout() throws IOException {
+        ProcessResult result = runner.run(Duration.ofMillis(300), "sh", "-c", "echo started; sleep 30");
+
+        assert result.timedOut() && result.exitCode() == -1 && !result.isSuccess();
+        assert result.stdout().equals(List.of("started")) : result;
+        assert result.elapsed().compareTo(Duration.ofSeconds(5)) < 0 : result.elapsed();
+    }
+
+    @Test public void closed_lines_stop_the_process() throws IOException {
+        long start = System.nanoTime();
+        List<String> first;
+        try (ProcessLines lines = runner.lines("sh", "-c", "echo a; echo b; sleep 30")) {
+            first = lines.stream().limit(2).collect(Collectors.toList());
+            assert !lines.timedOut();
+        }
+        assert first.equals(List.of("a", "b")) : first;
+        assert System.nanoTime() - start < Duration.ofSeconds(5).toNanos();
+    }
+
+    @Test public void processes_in_flight_are_bounded() throws IOException {
+        ProcessRunner single = new ProcessRunner(Duration.ofSeconds(10), 1);
+        try (ProcessLines ignored = single.lines("sleep", "30")) {
+            single.run(Duration.ofMillis(200), "true");
+            assert false : "a second process must wait for the slot";
+        } catch (IOException e) {
+            assert e.getMessage().startsWith("No free process slot") : e;
+        }
+        /* The slot is released by the close */
+        assert single.run("true").isSuccess();
+    }
+
+    @Test public void invalid_limits_are_rejected() {
+        try {
+            new ProcessRunner(Duration.ZERO, 1);
+            assert false : "a timeout of zero must be rejected";
+        } catch (IllegalArgumentException e) {
+            //None content...
+        }
+        try {
+            new ProcessRunner(Duration.ofSeconds(1), 0);
+            assert false : "a parallelism of zero must be rejected";
+        } catch (IllegalArgumentException e) {
+            //None content...
+        }
+    }
+}
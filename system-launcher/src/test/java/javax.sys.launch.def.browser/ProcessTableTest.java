@@ -0,0 +1,59 @@
+package javax.sys.launch.def.browser;
+
+import org.junit.jupiter.api.Test;
+
+import org.system.factory.launcher.utils.PortUtils;
+import org.system.factory.launcher.utils.proc.ProcessInfo;
+import org.system.factory.launcher.utils.proc.ProcessTable;
+import org.system.factory.launcher.utils.proc.SocketInventory;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+public class ProcessTableTest {
+
+    @Test public void snapshot_contains_children_of_the_jvm() throws Exception {
+        if (!SocketInventory.isSupported()) return;
+        ProcessTable table = new ProcessTable(Duration.ofMinutes(1));
+        table.processes();
+
+        Process child = new ProcessBuilder("sleep", "30").start();
+        try {
+            long self = ProcessHandle.current().pid();
+            assert table.process(child.pid()).isEmpty() : "snapshot must be cached within its time to live";
+
+            table.refresh();
+            ProcessInfo info = table.process(child.pid()).orElseThrow();
+            assert info.ppid() == self && info.command().startsWith("sleep");
+            assert table.descendants(self).stream().anyMatch(process -> process.pid() == child.pid());
+        } finally {
+            child.destroyForcibly().waitFor(5, TimeUnit.SECONDS);
+        }
+        table.refresh();
+        assert table.process(child.pid()).isEmpty();
+    }
+
+    @Test public void snapshot_maps_ports_to_processes() throws Exception {
+        if (!SocketInventory.isSupported()) return;
+        ProcessTable table = new ProcessTable(Duration.ofMinutes(1));
+        table.processes();
+
+        try (ServerSocket socket = new ServerSocket(35_000)) {
+            /* The socket of the known JVM process is found by the incremental refresh */
+            table.refresh();
+            assert table.holding(35_000).stream().anyMatch(info -> info.pid() == ProcessHandle.current().pid());
+        }
+        table.refresh();
+        assert table.holding(35_000).isEmpty();
+    }
+
+    @Test public void running_apps_contain_processes_without_ports() throws Exception {
+        Process child = new ProcessBuilder("sleep", "30").start();
+        try {
+            ProcessTable.shared().refresh();
+            assert PortUtils.getRunningApps().stream().anyMatch(command -> command.startsWith("sleep 30"));
+        } finally {
+            child.destroyForcibly().waitFor(5, TimeUnit.SECONDS);
+        }
+    }
+}
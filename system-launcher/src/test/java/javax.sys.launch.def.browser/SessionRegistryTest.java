@@ -0,0 +1,40 @@
+package javax.sys.launch.def.browser;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import org.system.factory.launcher.browser.plattform.SessionRegistry;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class SessionRegistryTest {
+
+    @Test public void register_parallel_without_lost_entries() {
+        SessionRegistry registry = new SessionRegistry();
+        List<WebDriver> drivers = IntStream.range(0, 10_000).<WebDriver>mapToObj(i -> new StubDriver()).toList();
+
+        IntStream.range(0, drivers.size()).parallel()
+                .forEach(i -> registry.register(i % 8, drivers.get(i)));
+
+        assert registry.size() == drivers.size();
+        assert registry.factories().size() == 8;
+        assert registry.sessions(3).size() == drivers.size() / 8;
+    }
+
+    @Test public void deregister_and_drain() {
+        SessionRegistry registry = new SessionRegistry();
+        WebDriver first = new StubDriver(), second = new StubDriver();
+
+        assert registry.register(1L, first);
+        assert !registry.register(1L, first);
+        assert registry.register(1L, second);
+
+        assert registry.deregister(1L, first);
+        assert !registry.deregister(1L, first);
+        assert registry.sessions(1L).contains(second);
+
+        assert registry.drain(1L).equals(List.of(second));
+        assert registry.sessions(1L).isEmpty();
+        assert registry.factories().isEmpty();
+    }
+}
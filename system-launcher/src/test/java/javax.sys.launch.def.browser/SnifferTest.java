@@ -0,0 +1,47 @@
+package javax.sys.launch.def.browser;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.system.factory.launcher.browser.plattform.DriverInstance;
+import org.system.factory.launcher.browser.plattform.Sniffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class SnifferTest {
+
+    @AfterEach public void clear() {
+        System.clearProperty(Sniffer.BROWSER_PROPERTY);
+        /* Other tests must not see the overridden browser */
+        Sniffer.refresh();
+    }
+
+    @Test public void override_skips_the_probe() {
+        System.setProperty(Sniffer.BROWSER_PROPERTY, " firefox ");
+        Sniffer.refresh();
+        assert Sniffer.systemBrowser() == DriverInstance.FIREFOX;
+        assert Sniffer.systemBrowserAsync() == Sniffer.systemBrowserAsync();
+    }
+
+    @Test public void invalid_override_fails_without_being_cached() throws Exception {
+        System.setProperty(Sniffer.BROWSER_PROPERTY, "netscape");
+        CompletableFuture<DriverInstance> detection = Sniffer.refresh();
+        try {
+            detection.get(5, TimeUnit.SECONDS);
+            assert false : "an unknown browser must not be detected";
+        } catch (ExecutionException e) {
+            assert e.getCause() instanceof IllegalArgumentException : e.getCause();
+        }
+        try {
+            Sniffer.systemBrowser();
+            assert false : "an unknown browser must fail every call";
+        } catch (IllegalArgumentException e) {
+            //None content...
+        }
+
+        /* A corrected override is picked up by the next call */
+        System.setProperty(Sniffer.BROWSER_PROPERTY, "chrome");
+        assert Sniffer.systemBrowserAsync().get(5, TimeUnit.SECONDS) == DriverInstance.CHROME;
+    }
+}
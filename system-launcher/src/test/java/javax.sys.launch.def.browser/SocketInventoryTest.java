@@ -0,0 +1,39 @@
+package javax.sys.launch.def.browser;
+
+import org.junit.jupiter.api.Test;
+
+import org.system.factory.launcher.utils.proc.SocketInventory;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Objects;
+
+public class SocketInventoryTest {
+
+    private static Path table(String name) throws URISyntaxException {
+        return Paths.get(Objects.requireNonNull(SocketInventoryTest.class.getResource("/proc/net/tcp")).toURI())
+                .resolveSibling(name);
+    }
+
+    @Test public void tcp_indexes_listening_sockets_only() throws Exception {
+        /* Established connections, sockets in TIME_WAIT and malformed rows are skipped */
+        assert SocketInventory.readTable(table("tcp"), null).equals(Map.of(1001L, 8080, 1002L, 60000));
+    }
+
+    @Test public void tcp6_ports_are_read_from_the_long_address() throws Exception {
+        assert SocketInventory.readTable(table("tcp6"), null).equals(Map.of(2001L, 3306));
+    }
+
+    @Test public void udp_indexes_bound_unconnected_sockets_only() throws Exception {
+        assert SocketInventory.readTable(table("udp"), null).equals(Map.of(3001L, 5353));
+    }
+
+    @Test public void filter_restricts_the_ports() throws Exception {
+        BitSet filter = new BitSet();
+        filter.set(60000);
+        assert SocketInventory.readTable(table("tcp"), filter).equals(Map.of(1002L, 60000));
+        assert SocketInventory.readTable(table("missing"), null).isEmpty();
+    }
+}
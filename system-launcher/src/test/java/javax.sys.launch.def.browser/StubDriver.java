@@ -0,0 +1,130 @@
+package javax.sys.launch.def.browser;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Web-driver without browser, which is shared by the tests. Its quit and its navigation
+ * can be delayed to simulate a hanging browser; quits are counted and visited urls recorded.
+ * {@link #manage()}, {@link #navigate()} and {@link #switchTo()} return no-op stubs.
+ */
+final class StubDriver implements WebDriver {
+
+    private volatile String url = "about:blank";
+    private long quitMillis;
+    private long navigationMillis;
+    private AtomicInteger quits = new AtomicInteger();
+    private List<String> visited;
+
+    /** @param millis -> time, which every quit takes */
+    StubDriver quitMillis(long millis) {
+        this.quitMillis = millis;
+        return this;
+    }
+
+    /** @param millis -> time, which every navigation takes */
+    StubDriver navigationMillis(long millis) {
+        this.navigationMillis = millis;
+        return this;
+    }
+
+    /** @param quits -> counter of the completed quits */
+    StubDriver quits(AtomicInteger quits) {
+        this.quits = quits;
+        return this;
+    }
+
+    /** @param visited -> list, which records the url of every completed navigation */
+    StubDriver visited(List<String> visited) {
+        this.visited = visited;
+        return this;
+    }
+
+    @Override public void get(String url) {
+        sleep(navigationMillis);
+        this.url = url;
+        if (visited != null) visited.add(url);
+    }
+
+    @Override public String getCurrentUrl() {
+        return url;
+    }
+
+    @Override public String getTitle() {
+        return "";
+    }
+
+    @Override public List<WebElement> findElements(By by) {
+        return List.of();
+    }
+
+    @Override public WebElement findElement(By by) {
+        throw new NoSuchElementException(by.toString());
+    }
+
+    @Override public String getPageSource() {
+        return "";
+    }
+
+    @Override public void close() {
+        //None content...
+    }
+
+    @Override public void quit() {
+        sleep(quitMillis);
+        quits.incrementAndGet();
+    }
+
+    @Override public Set<String> getWindowHandles() {
+        return Set.of(getWindowHandle());
+    }
+
+    @Override public String getWindowHandle() {
+        return "main";
+    }
+
+    @Override public TargetLocator switchTo() {
+        return noop(TargetLocator.class);
+    }
+
+    @Override public Navigation navigate() {
+        return noop(Navigation.class);
+    }
+
+    @Override public Options manage() {
+        return noop(Options.class);
+    }
+
+    @Override public String toString() {
+        return "StubDriver@" + Integer.toHexString(System.identityHashCode(this));
+    }
+
+    /** @return stub of the interface, whose methods do nothing and return {@code null} */
+    private static <T> T noop(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> type.getSimpleName() + "Stub";
+                    default -> null;
+                }));
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException(e);
+        }
+    }
+}